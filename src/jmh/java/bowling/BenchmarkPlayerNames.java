@@ -0,0 +1,28 @@
+package bowling;
+
+import bowling.domain.PlayerName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BenchmarkPlayerNames {
+    private static final int ALPHABET_SIZE = 26;
+    private static final int NAME_LENGTH = 3;
+
+    public static List<PlayerName> create(int playerCount) {
+        List<PlayerName> playerNames = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            playerNames.add(PlayerName.of(toName(i)));
+        }
+        return playerNames;
+    }
+
+    private static String toName(int index) {
+        char[] name = new char[NAME_LENGTH];
+        for (int i = NAME_LENGTH - 1; i >= 0; i--) {
+            name[i] = (char) ('A' + index % ALPHABET_SIZE);
+            index /= ALPHABET_SIZE;
+        }
+        return new String(name);
+    }
+}
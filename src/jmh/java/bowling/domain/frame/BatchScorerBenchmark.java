@@ -0,0 +1,46 @@
+package bowling.domain.frame;
+
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchScorerBenchmark {
+    private static final int GAME_COUNT = 100_000;
+
+    private byte[] points;
+    private int[] totalPoints;
+    private int[] frameTotalPoints;
+
+    @Setup
+    public void setUp() {
+        RandomGenerator randomGenerator = new RandomGenerator(2020L);
+        points = new byte[GAME_COUNT * PointGenerator.POINTS_PER_GAME];
+        for (int game = 0; game < GAME_COUNT; game++) {
+            randomGenerator.fillGame(points, game * PointGenerator.POINTS_PER_GAME);
+        }
+        totalPoints = new int[GAME_COUNT];
+        frameTotalPoints = new int[GAME_COUNT * PointGenerator.FRAME_COUNT];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAME_COUNT)
+    public int[] score() {
+        BatchScorer.score(points, GAME_COUNT, totalPoints);
+        return totalPoints;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAME_COUNT)
+    public int[] scoreFrames() {
+        BatchScorer.scoreFrames(points, GAME_COUNT, frameTotalPoints);
+        return frameTotalPoints;
+    }
+}
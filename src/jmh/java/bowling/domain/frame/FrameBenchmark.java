@@ -0,0 +1,56 @@
+package bowling.domain.frame;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark {
+    private static final int FRAME_ID_FIRST = 1;
+    private static final int FRAME_ID_FINAL = 10;
+    private static final int POINT_MAX = 10;
+
+    private List<Frame> frameList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        frameList = Frame.createTenFrames().getFrames();
+    }
+
+    @Benchmark
+    public Frames createTenFrames() {
+        return Frame.createTenFrames();
+    }
+
+    @Benchmark
+    public void getFrameScore(Blackhole blackhole) {
+        Frames frames = Frames.of(frameList);
+        for (int frameId = FRAME_ID_FIRST; frameId <= FRAME_ID_FINAL; frameId++) {
+            blackhole.consume(frames.getFrameScore(frameId));
+        }
+    }
+
+    @Benchmark
+    public void getTotalPointUntil(Blackhole blackhole) {
+        Frames frames = Frames.of(frameList);
+        for (int frameId = FRAME_ID_FIRST; frameId <= FRAME_ID_FINAL; frameId++) {
+            blackhole.consume(frames.getTotalPointUntil(frameId));
+        }
+    }
+
+    @Benchmark
+    public void findResult(Blackhole blackhole) {
+        for (int first = 0; first <= POINT_MAX; first++) {
+            for (int second = 0; first + second <= POINT_MAX; second++) {
+                blackhole.consume(FrameResult.findResult(first, second));
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package bowling.domain.result;
+
+import bowling.BenchmarkPlayerNames;
+import bowling.domain.PlayerName;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameResultsBenchmark {
+    @Param({"1", "4", "20"})
+    private int playerCount;
+
+    private List<PlayerName> playerNames;
+
+    @Setup
+    public void setUp() {
+        playerNames = BenchmarkPlayerNames.create(playerCount);
+    }
+
+    @Benchmark
+    public GameResults createWithPlayerNames() {
+        return GameResults.createWithPlayerNames(playerNames);
+    }
+}
@@ -0,0 +1,47 @@
+package bowling.view;
+
+import bowling.BenchmarkPlayerNames;
+import bowling.domain.result.GameResults;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultViewBenchmark {
+    @Param({"1", "4", "20"})
+    private int playerCount;
+
+    private GameResults gameResults;
+    private ResultView resultView;
+
+    @Setup
+    public void setUp() {
+        gameResults = GameResults.createWithPlayerNames(BenchmarkPlayerNames.create(playerCount));
+        resultView = new ResultView(new NullWriter());
+    }
+
+    @Benchmark
+    public void print() {
+        resultView.render(gameResults);
+    }
+
+    private static class NullWriter extends Writer {
+        @Override
+        public void write(char[] chars, int offset, int length) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,9 +1,28 @@
 package bowling;
 
+import bowling.controller.BatchGame;
+import bowling.controller.BatchOptions;
 import bowling.controller.BowlingGame;
+import bowling.metrics.BowlingMetrics;
+
+import java.io.UncheckedIOException;
 
 public class MainApplication {
+    private static final int EXIT_FAILURE = 1;
+
     public static void main(String[] args) {
-        BowlingGame.start();
+        BowlingMetrics.register();
+
+        if (args.length == 0) {
+            BowlingGame.start();
+            return;
+        }
+
+        try {
+            BatchGame.run(BatchOptions.parse(args));
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_FAILURE);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,44 @@
 package bowling;
 
+import bowling.domain.PlayerName;
+
 public class Messages {
     public static final String MESSAGE_INPUT_PLAYER_COUNT = "How many people?";
 
     public static final String WARNING_PLAYERNAME_NOT_ALLOWED_LENGTH = "플레이어 이름은 3글자여야 합니다.";
     public static final String WARNING_PLAYERNAME_MUST_ENGLISH = "플레이어 이름은 영문이어야 합니다.";
+    public static final String WARNING_PLAYERNAME_NOT_ALLOWED_CODE = "플레이어 이름 코드는 0 이상 17575 이하만 가능합니다.";
     public static final String WARNING_SCANNERUTIL_NOT_ALLOWED_NULL_EMPTY = "공백 문자열은 입력할 수 없습니다.";
     public static final String WARNING_SCORE_NOT_ALLOWED_RANGE = "스코어는 0 이상 10 이하의 숫자로만 생성 가능합니다.";
     public static final String WARNING_FRAME_NOT_ALLOWED_SECOND_WHEN_STRIKE = "첫 번째 타구가 10점이면, 두 번째는 0점이어야 합니다.";
     public static final String WARNING_FRAME_NOT_ALLOWED_SUM = "첫번째 타구와 두번째 타구의 합은 10 이하여야 합니다.";
+    public static final String WARNING_FRAME_NOT_ALLOWED_BONUS_SUM = "10프레임 스트라이크 이후 두 보너스 타구의 합은 10 이하여야 합니다.";
+    public static final String WARNING_LIVEGAME_ALREADY_FINISHED = "이미 끝난 게임에는 더 투구할 수 없습니다.";
+    public static final String WARNING_LIVEGAME_NOT_SCORED_FRAME = "아직 점수가 확정되지 않은 프레임입니다.";
     public static final String WARNING_ORDINAL_NOT_FOUND_MATCHED_ORDINAL = "일치하는 Ordinal이 존재하지 않습니다.";
     public static final String WARNING_PLAYERCOUNT_NON_NUMBER_INPUT = "플레이어 인원은 숫자만 가능합니다.";
     public static final String WARNING_PLAYERCOUNT_NON_POSITIVE = "플레이어 인원은 1 이상의 양수만 가능합니다.";
+    public static final String WARNING_SIMULATION_NON_POSITIVE_GAME_COUNT = "시뮬레이션 게임 수는 1 이상의 양수만 가능합니다.";
+    public static final String WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE = "백분위는 0 이상 100 이하의 숫자만 가능합니다.";
+    public static final String WARNING_BATCHSCORER_NOT_ENOUGH_BUFFER = "배열의 크기가 게임 수에 비해 작습니다.";
+    public static final String WARNING_GAMELOG_NOT_ALLOWED_FORMAT = "게임 기록 파일의 형식이 올바르지 않습니다.";
+    public static final String WARNING_GAMELOG_INDEX_OUT_OF_RANGE = "게임 기록에 없는 게임 번호입니다.";
+    public static final String WARNING_ROLLS_NOT_MATCHED_COUNT = "한 게임의 투구 수가 맞지 않습니다.";
+    public static final String WARNING_ROLLS_NON_NUMBER = "투구 점수는 숫자만 가능합니다.";
+    public static final String WARNING_ROLLS_TOO_LONG_LINE = "한 줄의 길이가 너무 깁니다.";
+    public static final String WARNING_LEADERBOARD_NOT_ALLOWED_SCORE = "순위표의 점수는 0 이상 300 이하만 가능합니다.";
+    public static final String WARNING_LEADERBOARD_NOT_FOUND_PLAYER = "순위표에 없는 플레이어입니다.";
+    public static final String WARNING_LANE_NON_POSITIVE_GAME_COUNT = "레인의 게임 수는 1 이상의 양수만 가능합니다.";
+    public static final String WARNING_LANE_NON_POSITIVE_OUTPUT_CAPACITY = "레인의 출력 대기열 크기는 1 이상의 양수만 가능합니다.";
+    public static final String WARNING_BATCH_NOT_ALLOWED_OPTION = "알 수 없는 옵션이거나 값이 없는 옵션입니다: ";
+    public static final String WARNING_BATCH_NON_NUMBER_OPTION = "숫자여야 하는 옵션입니다: ";
+    public static final String WARNING_BATCH_NON_POSITIVE_OPTION = "1 이상의 양수여야 하는 옵션입니다: ";
+    public static final String WARNING_BATCH_NEED_PLAYERS = "--players 또는 --names 중 하나만 지정해야 합니다.";
+    public static final String WARNING_BATCH_NOT_ALLOWED_FORMAT = "출력 형식은 full, line, ansi, scores, log 중 하나여야 합니다.";
+    public static final String WARNING_BATCH_LOG_NEED_OUTPUT = "log 형식은 --output 파일이 필요합니다.";
+    public static final String WARNING_BATCH_TOO_MANY_PLAYERS = "--players는 " + PlayerName.CODE_COUNT + " 이하여야 합니다.";
+    public static final String WARNING_BATCH_NOT_READABLE_NAMES = "이름 파일을 읽을 수 없습니다: ";
+    public static final String WARNING_BATCH_DUPLICATED_NAME = "이름 파일에 중복된 이름이 있습니다: ";
+    public static final String WARNING_BATCH_EMPTY_NAMES = "이름 파일에 이름이 없습니다: ";
+    public static final String WARNING_ASYNCWRITER_ALREADY_CLOSED = "이미 닫힌 출력입니다.";
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package bowling.archive;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static bowling.Messages.WARNING_GAMELOG_NOT_ALLOWED_FORMAT;
+import static bowling.domain.PointGenerator.POINTS_PER_GAME;
+
+/*
+헤더(매직 넘버 + 버전) 뒤에 고정 길이 레코드가 이어진다.
+레코드는 이름 3글자(char 3개)와, 한 바이트에 포인트 두 개씩(각 4비트) 담은 PointGenerator 배치의 포인트로 이루어진다.
+ */
+class GameLogFormat {
+    static final int MAGIC = 0x42574C47;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int NAME_LENGTH = 3;
+    static final int NAME_SIZE = Character.BYTES * NAME_LENGTH;
+    static final int POINTS_SIZE = POINTS_PER_GAME / 2;
+    static final int RECORD_SIZE = NAME_SIZE + POINTS_SIZE;
+
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+
+    private GameLogFormat() {
+    }
+
+    static void writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+    }
+
+    static void validateHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalArgumentException(WARNING_GAMELOG_NOT_ALLOWED_FORMAT);
+        }
+    }
+
+    /*
+    열다가 실패하면 채널을 닫고, 닫다가 난 예외는 원래 예외에 덧붙인다.
+     */
+    static void closeOnFailure(Closeable channel, Exception failure) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    static void writePoints(ByteBuffer buffer, byte[] points, int offset) {
+        for (int i = offset; i < offset + POINTS_PER_GAME; i += 2) {
+            buffer.put((byte) (points[i] | points[i + 1] << NIBBLE_BITS));
+        }
+    }
+
+    static void readPoints(ByteBuffer buffer, int position, byte[] points, int offset) {
+        for (int i = 0; i < POINTS_SIZE; i++) {
+            int packed = buffer.get(position + i);
+            points[offset + i * 2] = (byte) (packed & NIBBLE_MASK);
+            points[offset + i * 2 + 1] = (byte) (packed >>> NIBBLE_BITS & NIBBLE_MASK);
+        }
+    }
+}
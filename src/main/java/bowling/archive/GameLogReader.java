@@ -0,0 +1,127 @@
+package bowling.archive;
+
+import bowling.domain.PlayerName;
+import bowling.domain.frame.Frame;
+import bowling.domain.result.GameResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static bowling.Messages.WARNING_GAMELOG_INDEX_OUT_OF_RANGE;
+import static bowling.archive.GameLogFormat.*;
+import static bowling.domain.PointGenerator.POINTS_PER_GAME;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/*
+게임 기록 파일을 메모리에 매핑해 게임 번호로 바로 찾아 읽는다.
+매핑 하나는 2GB를 넘을 수 없으므로, 레코드가 잘리지 않는 크기의 여러 조각으로 나누어 매핑한다.
+ */
+public class GameLogReader implements Closeable {
+    private static final int CHUNK_RECORD_COUNT = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] chunks;
+    private final long gameCount;
+
+    private GameLogReader(FileChannel channel, MappedByteBuffer[] chunks, long gameCount) {
+        this.channel = channel;
+        this.chunks = chunks;
+        this.gameCount = gameCount;
+    }
+
+    public static GameLogReader open(Path path) {
+        try {
+            FileChannel channel = FileChannel.open(path, READ);
+            try {
+                validateHeader(channel.map(READ_ONLY, 0, Math.min(channel.size(), HEADER_SIZE)));
+
+                long gameCount = (channel.size() - HEADER_SIZE) / RECORD_SIZE;
+                return new GameLogReader(channel, mapChunks(channel, gameCount), gameCount);
+            } catch (IOException | RuntimeException e) {
+                closeOnFailure(channel, e);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MappedByteBuffer[] mapChunks(FileChannel channel, long gameCount) throws IOException {
+        int chunkCount = (int) ((gameCount + CHUNK_RECORD_COUNT - 1) / CHUNK_RECORD_COUNT);
+        MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+
+        for (int i = 0; i < chunkCount; i++) {
+            long firstGame = (long) i * CHUNK_RECORD_COUNT;
+            long recordCount = Math.min(CHUNK_RECORD_COUNT, gameCount - firstGame);
+            chunks[i] = channel.map(READ_ONLY, HEADER_SIZE + firstGame * RECORD_SIZE, recordCount * RECORD_SIZE);
+        }
+        return chunks;
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public PlayerName getPlayerName(long index) {
+        MappedByteBuffer chunk = findChunk(index);
+        int position = findPosition(index);
+
+        char[] name = new char[NAME_LENGTH];
+        for (int i = 0; i < NAME_LENGTH; i++) {
+            name[i] = chunk.getChar(position + i * Character.BYTES);
+        }
+        return PlayerName.of(new String(name));
+    }
+
+    public void readPoints(long index, byte[] points, int offset) {
+        GameLogFormat.readPoints(findChunk(index), findPosition(index) + NAME_SIZE, points, offset);
+    }
+
+    public void readPoints(long fromIndex, int count, byte[] points) {
+        for (int i = 0; i < count; i++) {
+            readPoints(fromIndex + i, points, i * POINTS_PER_GAME);
+        }
+    }
+
+    public GameResult getGameResult(long index) {
+        byte[] points = new byte[POINTS_PER_GAME];
+        readPoints(index, points, 0);
+        return GameResult.of(getPlayerName(index), Frame.createTenFrames(points, 0));
+    }
+
+    /*
+    매 게임마다 같은 배열을 다시 채워 넘기므로, 넘겨받은 배열을 보관하면 안 된다.
+     */
+    public void forEach(GamePointsConsumer consumer) {
+        byte[] points = new byte[POINTS_PER_GAME];
+        for (long index = 0; index < gameCount; index++) {
+            readPoints(index, points, 0);
+            consumer.accept(index, points);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer findChunk(long index) {
+        if (index < 0 || index >= gameCount) {
+            throw new IllegalArgumentException(WARNING_GAMELOG_INDEX_OUT_OF_RANGE);
+        }
+        return chunks[(int) (index / CHUNK_RECORD_COUNT)];
+    }
+
+    private int findPosition(long index) {
+        return (int) (index % CHUNK_RECORD_COUNT) * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,138 @@
+package bowling.archive;
+
+import bowling.domain.PlayerName;
+import bowling.domain.result.GameResult;
+import bowling.domain.result.GameResults;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static bowling.archive.GameLogFormat.*;
+import static bowling.domain.PointGenerator.POINTS_PER_GAME;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/*
+게임 기록을 파일 끝에만 덧붙인다. 이전에 쓰다 끊긴 레코드가 남아 있으면 열 때 잘라낸다.
+ */
+public class GameLogWriter implements Closeable {
+    private static final int BUFFER_RECORD_COUNT = 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORD_COUNT);
+    private final byte[] points = new byte[POINTS_PER_GAME];
+
+    private GameLogWriter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static GameLogWriter open(Path path) {
+        try {
+            FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE);
+            try {
+                prepare(channel);
+                return new GameLogWriter(channel);
+            } catch (IOException | RuntimeException e) {
+                closeOnFailure(channel, e);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void prepare(FileChannel channel) throws IOException {
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            writeHeader(header);
+            header.flip();
+            writeFully(channel, header, 0);
+            channel.position(HEADER_SIZE);
+            return;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        validateHeader(header);
+
+        long recordBytes = channel.size() - HEADER_SIZE;
+        long end = HEADER_SIZE + recordBytes - recordBytes % RECORD_SIZE;
+        channel.truncate(end);
+        channel.position(end);
+    }
+
+    public void append(GameResults gameResults) {
+        for (GameResult gameResult : gameResults.getResults()) {
+            append(gameResult);
+        }
+    }
+
+    public void append(GameResult gameResult) {
+        gameResult.fillPoints(points, 0);
+        append(gameResult.getPlayerName(), points, 0);
+    }
+
+    public void append(PlayerName playerName, byte[] points, int offset) {
+        if (buffer.remaining() < RECORD_SIZE) {
+            flushBuffer();
+        }
+
+        String name = playerName.getName();
+        for (int i = 0; i < NAME_LENGTH; i++) {
+            buffer.putChar(name.charAt(i));
+        }
+        writePoints(buffer, points, offset);
+    }
+
+    public void flush() {
+        flushBuffer();
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+    버퍼를 내보내다 실패해도 파일은 닫고, 닫기 실패는 먼저 난 예외에 덧붙인다.
+     */
+    @Override
+    public void close() {
+        try {
+            flushBuffer();
+        } catch (RuntimeException e) {
+            closeOnFailure(channel, e);
+            throw e;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
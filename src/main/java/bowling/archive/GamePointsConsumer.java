@@ -0,0 +1,6 @@
+package bowling.archive;
+
+@FunctionalInterface
+public interface GamePointsConsumer {
+    void accept(long index, byte[] points);
+}
@@ -0,0 +1,28 @@
+package bowling.archive;
+
+public class ImportError {
+    private final long lineNumber;
+    private final String message;
+
+    public ImportError(long lineNumber, String message) {
+        this.lineNumber = lineNumber;
+        this.message = message;
+    }
+
+    public static ImportError of(long lineNumber, String message) {
+        return new ImportError(lineNumber, message);
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return lineNumber + ": " + message;
+    }
+}
@@ -0,0 +1,56 @@
+package bowling.archive;
+
+import bowling.domain.result.PlayerTotal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+잘못된 줄이 아주 많아도 메모리가 늘지 않도록, 오류는 앞의 MAX_REPORTED_ERROR_COUNT개만 보관하고 나머지는 개수만 센다.
+ */
+public class ImportResult {
+    private static final int MAX_REPORTED_ERROR_COUNT = 1_000;
+
+    private final Map<String, PlayerTotal> playerTotals = new TreeMap<>();
+    private final List<ImportError> errors = new ArrayList<>();
+    private long gameCount;
+    private long errorCount;
+
+    void addError(long lineNumber, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERROR_COUNT) {
+            errors.add(ImportError.of(lineNumber, message));
+        }
+    }
+
+    void merge(Map<String, PlayerTotal> totals) {
+        for (PlayerTotal total : totals.values()) {
+            gameCount += total.getGameCount();
+            playerTotals.merge(total.getName(), total, PlayerTotal::merge);
+        }
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public List<ImportError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public Collection<PlayerTotal> getPlayerTotals() {
+        return Collections.unmodifiableCollection(playerTotals.values());
+    }
+
+    public PlayerTotal getPlayerTotal(String name) {
+        return playerTotals.get(name);
+    }
+}
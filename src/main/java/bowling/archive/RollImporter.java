@@ -0,0 +1,256 @@
+package bowling.archive;
+
+import bowling.domain.PlayerName;
+import bowling.domain.frame.BatchScorer;
+import bowling.domain.frame.RollSequence;
+import bowling.domain.result.PlayerTotal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static bowling.Messages.WARNING_ROLLS_NON_NUMBER;
+import static bowling.Messages.WARNING_ROLLS_NOT_MATCHED_COUNT;
+import static bowling.Messages.WARNING_ROLLS_TOO_LONG_LINE;
+import static bowling.domain.PointGenerator.POINTS_PER_GAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+/*
+한 줄에 한 게임씩 "이름 투구 투구 ..." 형식으로 기록된 파일을 읽어 플레이어별 합계를 낸다.
+파일은 고정 크기 버퍼로 나누어 읽고, BATCH_SIZE 게임씩 모아 채점을 맡기되
+채점 중인 묶음이 maxPendingBatches개를 넘지 않게 해 파일 크기와 상관없이 메모리 사용량이 일정하다.
+잘못된 줄은 줄 번호와 함께 ImportResult에 남기고 다음 줄로 넘어간다.
+ */
+public class RollImporter {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_LINE_LENGTH = 256;
+    private static final int BATCH_SIZE = 4096;
+    private static final int MAX_ROLL_COUNT = 21;
+    private static final int ROLL_VALUE_LIMIT = 1_000;
+    private static final int DECIMAL = 10;
+    private static final int PENDING_BATCHES_PER_THREAD = 2;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte SPACE = ' ';
+    private static final byte TAB = '\t';
+    private static final String DELIMITER = " ";
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final Executor executor;
+    private final int maxPendingBatches;
+
+    public RollImporter() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() * PENDING_BATCHES_PER_THREAD);
+    }
+
+    public RollImporter(Executor executor, int maxPendingBatches) {
+        this.executor = executor;
+        this.maxPendingBatches = Math.max(1, maxPendingBatches);
+    }
+
+    public ImportResult importRolls(Path input) {
+        ImportSession session = new ImportSession();
+
+        try (FileChannel channel = FileChannel.open(input, READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                session.accept(buffer.array(), buffer.position());
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return session.finish();
+    }
+
+    public ImportResult importRolls(Path input, Writer output) {
+        ImportResult result = importRolls(input);
+        writeTotals(result, output);
+        return result;
+    }
+
+    public static void writeTotals(ImportResult result, Writer output) {
+        StringBuilder line = new StringBuilder();
+        try {
+            for (PlayerTotal total : result.getPlayerTotals()) {
+                line.setLength(0);
+                line.append(total.getName()).append(DELIMITER)
+                        .append(total.getGameCount()).append(DELIMITER)
+                        .append(total.getScoreSum()).append(DELIMITER)
+                        .append(total.getBestScore()).append(NEW_LINE);
+                output.append(line);
+            }
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class ImportSession {
+        private final ImportResult result = new ImportResult();
+        private final Deque<CompletableFuture<Map<String, PlayerTotal>>> pending = new ArrayDeque<>();
+        private final byte[] line = new byte[MAX_LINE_LENGTH];
+        private final int[] rolls = new int[MAX_ROLL_COUNT];
+        private Batch batch = new Batch();
+        private int lineLength;
+        private boolean tooLong;
+        private long lineNumber;
+
+        void accept(byte[] bytes, int length) {
+            for (int i = 0; i < length; i++) {
+                accept(bytes[i]);
+            }
+        }
+
+        ImportResult finish() {
+            if (lineLength > 0 || tooLong) {
+                completeLine();
+            }
+            submit();
+            while (!pending.isEmpty()) {
+                result.merge(pending.poll().join());
+            }
+            return result;
+        }
+
+        private void accept(byte b) {
+            if (b == LINE_FEED) {
+                completeLine();
+                return;
+            }
+
+            if (lineLength == MAX_LINE_LENGTH) {
+                tooLong = true;
+                return;
+            }
+            line[lineLength++] = b;
+        }
+
+        private void completeLine() {
+            lineNumber++;
+            try {
+                parseLine();
+            } catch (IllegalArgumentException e) {
+                result.addError(lineNumber, e.getMessage());
+            }
+            lineLength = 0;
+            tooLong = false;
+        }
+
+        private void parseLine() {
+            if (tooLong) {
+                throw new IllegalArgumentException(WARNING_ROLLS_TOO_LONG_LINE);
+            }
+
+            int end = (lineLength > 0 && line[lineLength - 1] == CARRIAGE_RETURN) ? lineLength - 1 : lineLength;
+            int position = skipBlank(0, end);
+            if (position == end) {
+                return;
+            }
+
+            int nameEnd = skipToken(position, end);
+            PlayerName playerName = PlayerName.of(new String(line, position, nameEnd - position, UTF_8));
+
+            int rollCount = 0;
+            for (position = skipBlank(nameEnd, end); position < end; position = skipBlank(position, end)) {
+                if (rollCount == MAX_ROLL_COUNT) {
+                    throw new IllegalArgumentException(WARNING_ROLLS_NOT_MATCHED_COUNT);
+                }
+                int tokenEnd = skipToken(position, end);
+                rolls[rollCount++] = parseRoll(position, tokenEnd);
+                position = tokenEnd;
+            }
+
+            batch.add(playerName.getName(), rolls, rollCount);
+            if (batch.isFull()) {
+                submit();
+            }
+        }
+
+        private int parseRoll(int start, int end) {
+            int value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = line[i] - '0';
+                if (digit < 0 || digit >= DECIMAL) {
+                    throw new IllegalArgumentException(WARNING_ROLLS_NON_NUMBER);
+                }
+                value = Math.min(value * DECIMAL + digit, ROLL_VALUE_LIMIT);
+            }
+            return value;
+        }
+
+        private int skipBlank(int position, int end) {
+            while (position < end && isBlank(line[position])) {
+                position++;
+            }
+            return position;
+        }
+
+        private int skipToken(int position, int end) {
+            while (position < end && !isBlank(line[position])) {
+                position++;
+            }
+            return position;
+        }
+
+        private boolean isBlank(byte b) {
+            return b == SPACE || b == TAB;
+        }
+
+        private void submit() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            if (pending.size() >= maxPendingBatches) {
+                result.merge(pending.poll().join());
+            }
+
+            Batch submitted = batch;
+            pending.add(CompletableFuture.supplyAsync(submitted::score, executor));
+            batch = new Batch();
+        }
+    }
+
+    private static class Batch {
+        private final String[] names = new String[BATCH_SIZE];
+        private final byte[] points = new byte[BATCH_SIZE * POINTS_PER_GAME];
+        private int size;
+
+        void add(String name, int[] rolls, int rollCount) {
+            RollSequence.fillGame(rolls, rollCount, points, size * POINTS_PER_GAME);
+            names[size++] = name;
+        }
+
+        boolean isFull() {
+            return size == BATCH_SIZE;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        Map<String, PlayerTotal> score() {
+            int[] scores = new int[size];
+            BatchScorer.score(points, size, scores);
+
+            Map<String, PlayerTotal> totals = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                totals.computeIfAbsent(names[i], PlayerTotal::of).record(scores[i]);
+            }
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package bowling.controller;
+
+import bowling.archive.GameLogWriter;
+import bowling.domain.PlayerName;
+import bowling.domain.PointGenerator;
+import bowling.domain.result.GameResult;
+import bowling.domain.result.GameResults;
+import bowling.metrics.MeteredOutputStream;
+import bowling.view.AsyncWriter;
+import bowling.view.ResultView;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/*
+입력을 묻지 않고 BatchOptions대로 게임을 만들어 바로 출력한다.
+게임 생성과 점수 계산은 호출한 스레드에서, 실제 쓰기는 AsyncWriter의 전용 스레드에서 한다.
+표준 출력은 게임이 끝날 때마다 flush하고, 파일은 끝날 때 한 번만 내보내 버퍼를 채운 만큼씩 쓴다.
+ */
+public class BatchGame {
+    private static final int FRAME_ID_FINAL = 10;
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final char DELIMITER = ' ';
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    public static void run(BatchOptions options) {
+        List<PlayerName> playerNames = options.getPlayerNames();
+        PointGenerator pointGenerator = options.createPointGenerator();
+
+        try (GameSink gameSink = openSink(options)) {
+            for (long gameNumber = 1; gameNumber <= options.getGameCount(); gameNumber++) {
+                gameSink.accept(gameNumber, GameResults.createWithPlayerNames(playerNames, pointGenerator));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static GameSink openSink(BatchOptions options) throws IOException {
+        OutputFormat outputFormat = options.getOutputFormat();
+
+        if (outputFormat == OutputFormat.LOG) {
+            GameLogWriter gameLogWriter = GameLogWriter.open(options.getOutputPath().get());
+            return new GameSink() {
+                @Override
+                public void accept(long gameNumber, GameResults gameResults) {
+                    gameLogWriter.append(gameResults);
+                }
+
+                @Override
+                public void close() {
+                    gameLogWriter.close();
+                }
+            };
+        }
+
+        Writer writer = openWriter(options);
+        if (outputFormat.isBoard()) {
+            ResultView resultView = new ResultView(writer, outputFormat.getRenderMode());
+            return new GameSink() {
+                @Override
+                public void accept(long gameNumber, GameResults gameResults) {
+                    resultView.render(gameResults);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+
+        StringBuilder line = new StringBuilder();
+        return new GameSink() {
+            @Override
+            public void accept(long gameNumber, GameResults gameResults) throws IOException {
+                for (GameResult gameResult : gameResults.getResults()) {
+                    line.setLength(0);
+                    line.append(gameNumber).append(DELIMITER)
+                            .append(gameResult.getName()).append(DELIMITER)
+                            .append(gameResult.getScoreUntilFrame(FRAME_ID_FINAL)).append(LINE_SEPARATOR);
+                    writer.append(line);
+                }
+                writer.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                writer.close();
+            }
+        };
+    }
+
+    private static Writer openWriter(BatchOptions options) throws IOException {
+        Path outputPath = options.getOutputPath().orElse(null);
+        if (outputPath == null) {
+            return new AsyncWriter(openWriter(new KeepOpenOutputStream(System.out)));
+        }
+
+        return new AsyncWriter(new DeferredFlushWriter(openWriter(Files.newOutputStream(outputPath))));
+    }
+
+    private static Writer openWriter(OutputStream outputStream) {
+        return new OutputStreamWriter(
+                new MeteredOutputStream(new BufferedOutputStream(outputStream, OUTPUT_BUFFER_SIZE)), UTF_8);
+    }
+
+    private interface GameSink extends Closeable {
+        void accept(long gameNumber, GameResults gameResults) throws IOException;
+    }
+
+    private static class DeferredFlushWriter extends FilterWriter {
+        DeferredFlushWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
+    private static class KeepOpenOutputStream extends FilterOutputStream {
+        KeepOpenOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
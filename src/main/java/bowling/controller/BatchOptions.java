@@ -0,0 +1,175 @@
+package bowling.controller;
+
+import bowling.domain.PlayerName;
+import bowling.domain.PlayerNameSet;
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static bowling.Messages.*;
+
+/*
+--players 3 | --names names.txt, --seed 42, --games 1000, --format full|line|ansi|scores|log, --output result.txt
+ */
+public class BatchOptions {
+    private static final String PLAYERS = "--players";
+    private static final String NAMES = "--names";
+    private static final String SEED = "--seed";
+    private static final String GAMES = "--games";
+    private static final String FORMAT = "--format";
+    private static final String OUTPUT = "--output";
+    private static final int OPTION_WITH_VALUE = 2;
+    private static final int MIN_POSITIVE = 1;
+    private static final int DEFAULT_GAME_COUNT = 1;
+
+    private Integer playerCount;
+    private Path namesPath;
+    private Long seed;
+    private long gameCount = DEFAULT_GAME_COUNT;
+    private OutputFormat outputFormat = OutputFormat.FULL;
+    private Path outputPath;
+
+    private BatchOptions() {
+    }
+
+    public static BatchOptions parse(String[] args) {
+        BatchOptions options = new BatchOptions();
+        for (int i = 0; i < args.length; i += OPTION_WITH_VALUE) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(WARNING_BATCH_NOT_ALLOWED_OPTION + args[i]);
+            }
+            options.apply(args[i], args[i + 1]);
+        }
+        options.validate();
+        return options;
+    }
+
+    private void apply(String option, String value) {
+        switch (option) {
+            case PLAYERS:
+                playerCount = parsePlayerCount(option, value);
+                return;
+            case NAMES:
+                namesPath = Paths.get(value);
+                return;
+            case SEED:
+                seed = parseNumber(option, value);
+                return;
+            case GAMES:
+                gameCount = parsePositive(option, value);
+                return;
+            case FORMAT:
+                outputFormat = OutputFormat.of(value);
+                return;
+            case OUTPUT:
+                outputPath = Paths.get(value);
+                return;
+            default:
+                throw new IllegalArgumentException(WARNING_BATCH_NOT_ALLOWED_OPTION + option);
+        }
+    }
+
+    private void validate() {
+        if ((playerCount == null) == (namesPath == null)) {
+            throw new IllegalArgumentException(WARNING_BATCH_NEED_PLAYERS);
+        }
+
+        if (outputFormat == OutputFormat.LOG && outputPath == null) {
+            throw new IllegalArgumentException(WARNING_BATCH_LOG_NEED_OUTPUT);
+        }
+    }
+
+    private static int parsePlayerCount(String option, String value) {
+        long playerCount = parsePositive(option, value);
+        if (playerCount > PlayerName.CODE_COUNT) {
+            throw new IllegalArgumentException(WARNING_BATCH_TOO_MANY_PLAYERS);
+        }
+        return (int) playerCount;
+    }
+
+    private static long parsePositive(String option, String value) {
+        long number = parseNumber(option, value);
+        if (number < MIN_POSITIVE) {
+            throw new IllegalArgumentException(WARNING_BATCH_NON_POSITIVE_OPTION + option);
+        }
+        return number;
+    }
+
+    private static long parseNumber(String option, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(WARNING_BATCH_NON_NUMBER_OPTION + option);
+        }
+    }
+
+    public List<PlayerName> getPlayerNames() {
+        if (namesPath != null) {
+            return readPlayerNames(namesPath);
+        }
+
+        List<PlayerName> playerNames = new ArrayList<>();
+        for (int code = 0; code < playerCount; code++) {
+            playerNames.add(PlayerName.ofCode(code));
+        }
+        return playerNames;
+    }
+
+    /*
+    중복된 이름이나 빈 명단은 게임을 만들기 전에 파일 경로와 함께 알려준다.
+     */
+    private static List<PlayerName> readPlayerNames(Path path) {
+        List<String> lines = readLines(path);
+        List<PlayerName> playerNames = new ArrayList<>();
+        PlayerNameSet uniqueNames = new PlayerNameSet(lines.size());
+
+        for (String line : lines) {
+            String name = line.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+
+            PlayerName playerName = PlayerName.of(name);
+            if (!uniqueNames.add(playerName)) {
+                throw new IllegalArgumentException(WARNING_BATCH_DUPLICATED_NAME + name);
+            }
+            playerNames.add(playerName);
+        }
+
+        if (playerNames.isEmpty()) {
+            throw new IllegalArgumentException(WARNING_BATCH_EMPTY_NAMES + path);
+        }
+        return playerNames;
+    }
+
+    private static List<String> readLines(Path path) {
+        try {
+            return Files.readAllLines(path);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(WARNING_BATCH_NOT_READABLE_NAMES + path, e);
+        }
+    }
+
+    public PointGenerator createPointGenerator() {
+        return seed == null ? new RandomGenerator() : new RandomGenerator(seed);
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public OutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
+    public Optional<Path> getOutputPath() {
+        return Optional.ofNullable(outputPath);
+    }
+}
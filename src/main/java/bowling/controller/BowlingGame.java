@@ -19,7 +19,7 @@ public class BowlingGame {
     private static List<PlayerName> getPlayerNames(int playerCount) {
         return IntStream.rangeClosed(1, playerCount)
                 .mapToObj(count -> InputView.getPlayerName(count))
-                .map(PlayerName::new)
+                .map(PlayerName::of)
                 .collect(toList());
     }
 }
\ No newline at end of file
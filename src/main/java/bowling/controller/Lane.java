@@ -0,0 +1,76 @@
+package bowling.controller;
+
+import bowling.domain.PlayerName;
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import bowling.view.RenderMode;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static bowling.Messages.WARNING_LANE_NON_POSITIVE_GAME_COUNT;
+
+/*
+레인 하나가 치는 게임의 설정. 레인마다 자기 PointGenerator와 출력을 가지므로 다른 레인과 상태를 나누지 않는다.
+ */
+public class Lane {
+    private static final int MIN_GAME_COUNT = 1;
+
+    private final int laneNumber;
+    private final List<PlayerName> playerNames;
+    private final int gameCount;
+    private final PointGenerator pointGenerator;
+    private final Writer writer;
+    private final RenderMode renderMode;
+
+    public Lane(int laneNumber, List<PlayerName> playerNames, int gameCount, PointGenerator pointGenerator,
+                Writer writer, RenderMode renderMode) {
+        validateGameCount(gameCount);
+        this.laneNumber = laneNumber;
+        this.playerNames = Collections.unmodifiableList(new ArrayList<>(playerNames));
+        this.gameCount = gameCount;
+        this.pointGenerator = pointGenerator;
+        this.writer = writer;
+        this.renderMode = renderMode;
+    }
+
+    public static Lane of(int laneNumber, List<PlayerName> playerNames, int gameCount, Writer writer) {
+        return new Lane(laneNumber, playerNames, gameCount, new RandomGenerator(), writer, RenderMode.FULL);
+    }
+
+    public static Lane of(int laneNumber, List<PlayerName> playerNames, int gameCount, long seed, Writer writer) {
+        return new Lane(laneNumber, playerNames, gameCount, new RandomGenerator(seed), writer, RenderMode.FULL);
+    }
+
+    private void validateGameCount(int gameCount) {
+        if (gameCount < MIN_GAME_COUNT) {
+            throw new IllegalArgumentException(WARNING_LANE_NON_POSITIVE_GAME_COUNT);
+        }
+    }
+
+    public int getLaneNumber() {
+        return laneNumber;
+    }
+
+    public List<PlayerName> getPlayerNames() {
+        return playerNames;
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public PointGenerator getPointGenerator() {
+        return pointGenerator;
+    }
+
+    public Writer getWriter() {
+        return writer;
+    }
+
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+}
@@ -0,0 +1,33 @@
+package bowling.controller;
+
+import bowling.domain.result.PlayerTotal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LaneResult {
+    private final int laneNumber;
+    private final Map<String, PlayerTotal> playerTotals = new LinkedHashMap<>();
+
+    public LaneResult(int laneNumber) {
+        this.laneNumber = laneNumber;
+    }
+
+    void record(String name, int score) {
+        playerTotals.computeIfAbsent(name, PlayerTotal::of).record(score);
+    }
+
+    public int getLaneNumber() {
+        return laneNumber;
+    }
+
+    public Collection<PlayerTotal> getPlayerTotals() {
+        return Collections.unmodifiableCollection(playerTotals.values());
+    }
+
+    public PlayerTotal getPlayerTotal(String name) {
+        return playerTotals.get(name);
+    }
+}
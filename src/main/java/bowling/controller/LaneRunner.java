@@ -0,0 +1,124 @@
+package bowling.controller;
+
+import bowling.domain.result.GameResult;
+import bowling.domain.result.GameResults;
+import bowling.view.ResultView;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/*
+레인 하나의 게임을 순서대로 진행한다.
+게임은 gameExecutor에서 화면 문자열까지 만든 뒤 레인의 대기열에 넣고, 출력은 outputExecutor에서 따로 비운다.
+대기열이 가득 차면 다음 게임을 예약하지 않고 멈췄다가, 출력이 자리를 비우는 순간 다시 예약한다.
+그래서 출력이 느린 레인은 스스로만 늦어지고, 게임 스레드를 붙잡아 다른 레인을 막지 않는다.
+ */
+class LaneRunner {
+    private static final int FRAME_ID_FINAL = 10;
+
+    private final Lane lane;
+    private final Executor gameExecutor;
+    private final Executor outputExecutor;
+    private final int outputCapacity;
+    private final StringWriter sink = new StringWriter();
+    private final ResultView resultView;
+    private final LaneResult laneResult;
+    private final Deque<String> boards = new ArrayDeque<>();
+    private final CompletableFuture<LaneResult> done = new CompletableFuture<>();
+    private int playedGameCount;
+    private boolean gameRunning;
+    private boolean draining;
+
+    LaneRunner(Lane lane, Executor gameExecutor, Executor outputExecutor, int outputCapacity) {
+        this.lane = lane;
+        this.gameExecutor = gameExecutor;
+        this.outputExecutor = outputExecutor;
+        this.outputCapacity = outputCapacity;
+        this.resultView = new ResultView(sink, lane.getRenderMode());
+        this.laneResult = new LaneResult(lane.getLaneNumber());
+    }
+
+    synchronized CompletableFuture<LaneResult> start() {
+        startNextGameIfAllowed();
+        return done;
+    }
+
+    private void playNext() {
+        String board;
+        try {
+            board = play();
+        } catch (RuntimeException e) {
+            done.completeExceptionally(e);
+            return;
+        }
+
+        synchronized (this) {
+            boards.add(board);
+            playedGameCount++;
+            gameRunning = false;
+            startDrainIfIdle();
+            startNextGameIfAllowed();
+        }
+    }
+
+    private String play() {
+        GameResults gameResults = GameResults.createWithPlayerNames(lane.getPlayerNames(), lane.getPointGenerator());
+        for (GameResult gameResult : gameResults.getResults()) {
+            laneResult.record(gameResult.getName(), gameResult.getScoreUntilFrame(FRAME_ID_FINAL));
+        }
+
+        resultView.render(gameResults);
+        String board = sink.toString();
+        sink.getBuffer().setLength(0);
+        return board;
+    }
+
+    private void drain() {
+        while (true) {
+            String board;
+            synchronized (this) {
+                board = boards.poll();
+                if (board == null) {
+                    draining = false;
+                    completeIfFinished();
+                    return;
+                }
+                startNextGameIfAllowed();
+            }
+
+            try {
+                lane.getWriter().write(board);
+                lane.getWriter().flush();
+            } catch (IOException | RuntimeException e) {
+                done.completeExceptionally(e);
+                return;
+            }
+        }
+    }
+
+    private void startNextGameIfAllowed() {
+        if (done.isDone() || gameRunning || playedGameCount == lane.getGameCount() || boards.size() >= outputCapacity) {
+            return;
+        }
+        gameRunning = true;
+        gameExecutor.execute(this::playNext);
+    }
+
+    private void startDrainIfIdle() {
+        if (draining || boards.isEmpty()) {
+            return;
+        }
+        draining = true;
+        outputExecutor.execute(this::drain);
+    }
+
+    private void completeIfFinished() {
+        if (playedGameCount == lane.getGameCount() && !gameRunning && boards.isEmpty()) {
+            done.complete(laneResult);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package bowling.controller;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static bowling.Messages.WARNING_LANE_NON_POSITIVE_OUTPUT_CAPACITY;
+import static java.util.stream.Collectors.toList;
+
+/*
+여러 레인을 동시에 진행한다. 게임 생성과 화면 그리기는 크기가 정해진 게임 스레드 풀에서,
+레인별 출력은 출력 스레드 풀에서 한다. 레인마다 출력 작업은 한 번에 하나뿐이라 출력 스레드는 레인 수를 넘지 않는다.
+ */
+public class LaneScheduler implements AutoCloseable {
+    private static final int DEFAULT_OUTPUT_CAPACITY = 4;
+    private static final int MIN_OUTPUT_CAPACITY = 1;
+
+    private final ExecutorService gameExecutor;
+    private final ExecutorService outputExecutor;
+    private final int outputCapacity;
+
+    public LaneScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_OUTPUT_CAPACITY);
+    }
+
+    public LaneScheduler(int threadCount, int outputCapacity) {
+        this(Executors.newFixedThreadPool(threadCount), Executors.newCachedThreadPool(), outputCapacity);
+    }
+
+    public LaneScheduler(ExecutorService gameExecutor, ExecutorService outputExecutor, int outputCapacity) {
+        validateOutputCapacity(outputCapacity);
+        this.gameExecutor = gameExecutor;
+        this.outputExecutor = outputExecutor;
+        this.outputCapacity = outputCapacity;
+    }
+
+    private void validateOutputCapacity(int outputCapacity) {
+        if (outputCapacity < MIN_OUTPUT_CAPACITY) {
+            throw new IllegalArgumentException(WARNING_LANE_NON_POSITIVE_OUTPUT_CAPACITY);
+        }
+    }
+
+    public CompletableFuture<LaneResult> submit(Lane lane) {
+        return new LaneRunner(lane, gameExecutor, outputExecutor, outputCapacity).start();
+    }
+
+    public List<LaneResult> run(List<Lane> lanes) {
+        List<CompletableFuture<LaneResult>> futures = lanes.stream()
+                .map(this::submit)
+                .collect(toList());
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(toList());
+    }
+
+    @Override
+    public void close() {
+        gameExecutor.shutdown();
+        outputExecutor.shutdown();
+    }
+}
@@ -0,0 +1,36 @@
+package bowling.controller;
+
+import bowling.view.RenderMode;
+
+import java.util.Arrays;
+
+import static bowling.Messages.WARNING_BATCH_NOT_ALLOWED_FORMAT;
+
+public enum OutputFormat {
+    FULL(RenderMode.FULL),
+    LINE(RenderMode.LINE),
+    ANSI(RenderMode.ANSI),
+    SCORES(null),
+    LOG(null);
+
+    private final RenderMode renderMode;
+
+    OutputFormat(RenderMode renderMode) {
+        this.renderMode = renderMode;
+    }
+
+    public static OutputFormat of(String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(WARNING_BATCH_NOT_ALLOWED_FORMAT));
+    }
+
+    public boolean isBoard() {
+        return renderMode != null;
+    }
+
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+}
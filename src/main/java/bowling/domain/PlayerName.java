@@ -1,51 +1,119 @@
 package bowling.domain;
 
-import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static bowling.Messages.WARNING_PLAYERNAME_MUST_ENGLISH;
+import static bowling.Messages.WARNING_PLAYERNAME_NOT_ALLOWED_CODE;
 import static bowling.Messages.WARNING_PLAYERNAME_NOT_ALLOWED_LENGTH;
 
+/*
+이름은 알파벳 세 글자이므로, 대소문자를 구분하지 않는 26진수 코드(0 ~ 26^3-1)와 글자별 대문자 여부 비트로 나타낼 수 있다.
+검증과 인코딩을 문자열을 새로 만들지 않고 한 번에 하고, of()는 같은 이름에 항상 같은 인스턴스를 돌려준다.
+ */
 public class PlayerName {
     private static final int CRITERIA_NAME_LENGTH = 3;
+    private static final int ALPHABET_SIZE = 26;
+    private static final int CASE_BITS = CRITERIA_NAME_LENGTH;
+    private static final int UPPER_CASE = 1;
+    private static final int LOWER_CASE = 0;
+    public static final int CODE_COUNT = ALPHABET_SIZE * ALPHABET_SIZE * ALPHABET_SIZE;
+    private static final AtomicReferenceArray<PlayerName> INTERNED = new AtomicReferenceArray<>(CODE_COUNT << CASE_BITS);
 
-    private String name;
+    private final String name;
+    private final int key;
 
     public PlayerName(String name) {
-        validateNameLength(name);
-        validateNameInEnglish(name);
+        this(name, encode(name));
+    }
+
+    private PlayerName(String name, int key) {
         this.name = name;
+        this.key = key;
     }
 
     public static PlayerName of(String name) {
-        return new PlayerName(name);
+        int key = encode(name);
+        PlayerName interned = INTERNED.get(key);
+        if (interned != null) {
+            return interned;
+        }
+
+        INTERNED.compareAndSet(key, null, new PlayerName(name, key));
+        return INTERNED.get(key);
+    }
+
+    /*
+    대소문자를 구분하지 않는 코드로부터 대문자 이름을 만든다. 이름을 입력받지 않고 플레이어를 만들 때 쓴다.
+     */
+    public static PlayerName ofCode(int code) {
+        if (code < 0 || code >= CODE_COUNT) {
+            throw new IllegalArgumentException(WARNING_PLAYERNAME_NOT_ALLOWED_CODE);
+        }
+
+        char[] name = new char[CRITERIA_NAME_LENGTH];
+        for (int i = CRITERIA_NAME_LENGTH - 1; i >= 0; i--) {
+            name[i] = (char) ('A' + code % ALPHABET_SIZE);
+            code /= ALPHABET_SIZE;
+        }
+        return of(new String(name));
+    }
+
+    private static int encode(String name) {
+        validateNameLength(name);
+
+        int code = 0;
+        int caseBits = 0;
+        for (int i = 0; i < CRITERIA_NAME_LENGTH; i++) {
+            char letter = name.charAt(i);
+            code = code * ALPHABET_SIZE + toAlphabetIndex(letter);
+            caseBits = (caseBits << 1) | (isUpperCase(letter) ? UPPER_CASE : LOWER_CASE);
+        }
+        return code << CASE_BITS | caseBits;
     }
 
-    private void validateNameLength(String name) {
+    private static void validateNameLength(String name) {
         if (name.length() != CRITERIA_NAME_LENGTH) {
             throw new IllegalArgumentException(WARNING_PLAYERNAME_NOT_ALLOWED_LENGTH);
         }
     }
 
-    private void validateNameInEnglish(String name) {
-        if (name.toLowerCase() == name.toUpperCase()) {
-            throw new IllegalArgumentException(WARNING_PLAYERNAME_MUST_ENGLISH);
+    private static int toAlphabetIndex(char letter) {
+        if (letter >= 'a' && letter <= 'z') {
+            return letter - 'a';
+        }
+
+        if (isUpperCase(letter)) {
+            return letter - 'A';
         }
+
+        throw new IllegalArgumentException(WARNING_PLAYERNAME_MUST_ENGLISH);
+    }
+
+    private static boolean isUpperCase(char letter) {
+        return letter >= 'A' && letter <= 'Z';
     }
 
     public String getName() {
         return name;
     }
 
+    /*
+    대소문자를 구분하지 않는 코드. "ABC"와 "abc"는 같은 코드를 가진다.
+     */
+    public int getCode() {
+        return key >>> CASE_BITS;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         PlayerName that = (PlayerName) o;
-        return Objects.equals(name, that.name);
+        return key == that.key;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name);
+        return key;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package bowling.domain;
+
+/*
+PlayerName.getCode()를 int 배열에 직접 담는 open addressing(피보나치 해싱, 선형 탐사) 집합. 대소문자를 구분하지 않고 중복을 찾는다.
+빈 칸을 0으로 두기 위해 코드에 1을 더해 저장한다.
+ */
+public class PlayerNameSet {
+    private static final int EMPTY = 0;
+    private static final int OFFSET = 1;
+    private static final int MIN_CAPACITY = 4;
+    private static final int LOAD_FACTOR_INVERSE = 2;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] slots;
+    private int shift;
+    private int size;
+
+    public PlayerNameSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < Math.min(expectedSize, PlayerName.CODE_COUNT) * LOAD_FACTOR_INVERSE) {
+            capacity <<= 1;
+        }
+        this.slots = new int[capacity];
+        this.shift = Integer.numberOfLeadingZeros(capacity) + OFFSET;
+    }
+
+    /*
+    이미 있는 이름(대소문자 무시)이면 false를 돌려준다.
+     */
+    public boolean add(PlayerName playerName) {
+        int value = playerName.getCode() + OFFSET;
+        int index = findIndex(value);
+        if (slots[index] == value) {
+            return false;
+        }
+
+        slots[index] = value;
+        size++;
+        if (size * LOAD_FACTOR_INVERSE > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(PlayerName playerName) {
+        int value = playerName.getCode() + OFFSET;
+        return slots[findIndex(value)] == value;
+    }
+
+    private int findIndex(int value) {
+        int index = (value * HASH_MULTIPLIER) >>> shift;
+        while (slots[index] != EMPTY && slots[index] != value) {
+            index = (index + OFFSET) & (slots.length - OFFSET);
+        }
+        return index;
+    }
+
+    private void grow() {
+        int[] oldSlots = slots;
+        slots = new int[oldSlots.length << 1];
+        shift = Integer.numberOfLeadingZeros(slots.length) + OFFSET;
+
+        for (int value : oldSlots) {
+            if (value != EMPTY) {
+                slots[findIndex(value)] = value;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,57 @@
+package bowling.domain;
+
+import bowling.metrics.BowlingMetrics;
+
+public interface PointGenerator {
+    int POINTS_PER_GAME = 22;
+    int POINTS_PER_FRAME = 2;
+    int FRAME_COUNT = 10;
+    int MAX_POINT = 10;
+    int INDEX_FINAL_THIRD = 20;
+    int INDEX_FINAL_FOURTH = 21;
+
+    int getFirstPoint();
+
+    int getSecondPoint();
+
+    int getThirdPoint();
+
+    int getThirdPointForStrike();
+
+    int getFourthPointForStrike();
+
+    PointGenerator split();
+
+    /*
+    한 게임의 포인트를 Frame과 같은 배치로 buffer에 채운다.
+    1~10 프레임의 첫 번째, 두 번째 포인트를 순서대로 두 칸씩 채우고,
+    10 프레임의 세 번째, 네 번째 포인트는 마지막 두 칸에 채운다. (투구하지 않았으면 0)
+     */
+    default void fillGame(byte[] buffer, int offset) {
+        int first = 0;
+        int second = 0;
+
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            first = getFirstPoint();
+            second = getSecondPoint();
+            buffer[offset + frame * POINTS_PER_FRAME] = (byte) first;
+            buffer[offset + frame * POINTS_PER_FRAME + 1] = (byte) second;
+        }
+
+        int third = 0;
+        int fourth = 0;
+
+        if (first == MAX_POINT) {
+            third = getThirdPointForStrike();
+            fourth = getFourthPointForStrike();
+        }
+
+        if (first != MAX_POINT && first + second == MAX_POINT) {
+            third = getThirdPoint();
+        }
+
+        buffer[offset + INDEX_FINAL_THIRD] = (byte) third;
+        buffer[offset + INDEX_FINAL_FOURTH] = (byte) fourth;
+        BowlingMetrics.get().recordGameGenerated();
+    }
+}
@@ -1,33 +1,60 @@
 package bowling.domain;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
-public class RandomGenerator {
-    private static final Random RANDOM = new Random();
+public class RandomGenerator implements PointGenerator {
     private static final int BOUND_FIRST_POINT = 11;
+    private static final ThreadLocal<RandomGenerator> CURRENT = ThreadLocal.withInitial(RandomGenerator::new);
 
+    private final SplittableRandom random;
     private int firstPoint;
     private int thirdPoint;
 
+    public RandomGenerator() {
+        this(new SplittableRandom());
+    }
+
+    public RandomGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private RandomGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+
+    public static RandomGenerator current() {
+        return CURRENT.get();
+    }
+
+    @Override
     public int getFirstPoint() {
-        firstPoint = RANDOM.nextInt(BOUND_FIRST_POINT);
+        firstPoint = random.nextInt(BOUND_FIRST_POINT);
         return firstPoint;
     }
 
+    @Override
     public int getSecondPoint() {
-        return RANDOM.nextInt(BOUND_FIRST_POINT - firstPoint);
+        return random.nextInt(BOUND_FIRST_POINT - firstPoint);
     }
 
+    @Override
     public int getThirdPoint() {
-        return RANDOM.nextInt(BOUND_FIRST_POINT);
+        return random.nextInt(BOUND_FIRST_POINT);
     }
 
+    @Override
     public int getThirdPointForStrike() {
-        thirdPoint = RANDOM.nextInt(BOUND_FIRST_POINT);
+        thirdPoint = random.nextInt(BOUND_FIRST_POINT);
         return thirdPoint;
     }
 
+    @Override
     public int getFourthPointForStrike() {
-        return RANDOM.nextInt(BOUND_FIRST_POINT - thirdPoint);
+        return random.nextInt(BOUND_FIRST_POINT - thirdPoint);
+    }
+
+    @Override
+    public RandomGenerator split() {
+        return new RandomGenerator(random.split());
     }
-}
\ No newline at end of file
+}
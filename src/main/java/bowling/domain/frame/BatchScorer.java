@@ -0,0 +1,89 @@
+package bowling.domain.frame;
+
+import static bowling.Messages.WARNING_BATCHSCORER_NOT_ENOUGH_BUFFER;
+import static bowling.domain.PointGenerator.*;
+
+/*
+PointGenerator.fillGame과 같은 배치(한 게임에 POINTS_PER_GAME칸)로 여러 게임의 포인트를 담은 배열을
+Frame 객체 없이 채점한다. 점수 규칙은 Frames.getFrameScore와 같다.
+ */
+public class BatchScorer {
+    private static final int FRAME_INDEX_NINETH = 8;
+    private static final int FRAME_INDEX_FINAL = 9;
+    private static final int SECOND_OFFSET = 1;
+    private static final int NEXT_FRAME_OFFSET = POINTS_PER_FRAME;
+    private static final int NEXT_OF_NEXT_FRAME_OFFSET = POINTS_PER_FRAME * 2;
+    private static final int TOTAL_POINTS_PER_GAME = 1;
+
+    public static void score(byte[] points, int gameCount, int[] totalPoints) {
+        validateBuffer(points.length, gameCount, POINTS_PER_GAME);
+        validateBuffer(totalPoints.length, gameCount, TOTAL_POINTS_PER_GAME);
+
+        for (int game = 0, base = 0; game < gameCount; game++, base += POINTS_PER_GAME) {
+            int total = 0;
+            for (int index = base; index < base + FRAME_INDEX_NINETH * POINTS_PER_FRAME; index += POINTS_PER_FRAME) {
+                total += findNormalFrameScore(points, index);
+            }
+            totalPoints[game] = total + findNinethFrameScore(points, base) + findFinalFrameScore(points, base);
+        }
+    }
+
+    public static void scoreFrames(byte[] points, int gameCount, int[] frameTotalPoints) {
+        validateBuffer(points.length, gameCount, POINTS_PER_GAME);
+        validateBuffer(frameTotalPoints.length, gameCount, FRAME_COUNT);
+
+        for (int game = 0, base = 0, output = 0; game < gameCount; game++, base += POINTS_PER_GAME) {
+            int total = 0;
+            for (int index = base; index < base + FRAME_INDEX_NINETH * POINTS_PER_FRAME; index += POINTS_PER_FRAME) {
+                total += findNormalFrameScore(points, index);
+                frameTotalPoints[output++] = total;
+            }
+            total += findNinethFrameScore(points, base);
+            frameTotalPoints[output++] = total;
+            frameTotalPoints[output++] = total + findFinalFrameScore(points, base);
+        }
+    }
+
+    /*
+    분기 예측이 어려운 스트라이크/스페어 판정을 조건 연산으로만 표현해, JIT가 cmov로 바꿀 수 있게 한다.
+    스트라이크면 두 번째 포인트는 항상 0이므로, 다음 프레임의 두 포인트 합에 다음 다음 첫 포인트만 더하면 된다.
+     */
+    private static int findNormalFrameScore(byte[] points, int index) {
+        int first = points[index];
+        int sum = first + points[index + SECOND_OFFSET];
+        int nextFirst = points[index + NEXT_FRAME_OFFSET];
+        int nextSum = nextFirst + points[index + NEXT_FRAME_OFFSET + SECOND_OFFSET];
+        int strikeBonus = nextSum + (nextFirst == MAX_POINT ? points[index + NEXT_OF_NEXT_FRAME_OFFSET] : 0);
+        int spareBonus = (sum == MAX_POINT) ? nextFirst : 0;
+
+        return sum + (first == MAX_POINT ? strikeBonus : spareBonus);
+    }
+
+    private static int findNinethFrameScore(byte[] points, int base) {
+        int index = base + FRAME_INDEX_NINETH * POINTS_PER_FRAME;
+        int first = points[index];
+        int sum = first + points[index + SECOND_OFFSET];
+        int nextFirst = points[index + NEXT_FRAME_OFFSET];
+        int strikeBonus = (nextFirst == MAX_POINT)
+                ? MAX_POINT + points[base + INDEX_FINAL_THIRD]
+                : findFinalFrameScore(points, base);
+        int spareBonus = (sum == MAX_POINT) ? nextFirst : 0;
+
+        return sum + (first == MAX_POINT ? strikeBonus : spareBonus);
+    }
+
+    private static int findFinalFrameScore(byte[] points, int base) {
+        int index = base + FRAME_INDEX_FINAL * POINTS_PER_FRAME;
+        return points[index] + points[index + SECOND_OFFSET]
+                + points[base + INDEX_FINAL_THIRD] + points[base + INDEX_FINAL_FOURTH];
+    }
+
+    /*
+    게임 수가 크면 필요한 길이가 int를 넘칠 수 있으므로 long으로 곱해 비교한다.
+     */
+    private static void validateBuffer(int length, int gameCount, int lengthPerGame) {
+        if (length < (long) gameCount * lengthPerGame) {
+            throw new IllegalArgumentException(WARNING_BATCHSCORER_NOT_ENOUGH_BUFFER);
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package bowling.domain.frame;
 
+import bowling.domain.PointGenerator;
 import bowling.domain.RandomGenerator;
 import bowling.domain.point.Ordinal;
 import bowling.domain.point.Points;
+import bowling.metrics.BowlingMetrics;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static bowling.Messages.WARNING_FRAME_NOT_ALLOWED_SECOND_WHEN_STRIKE;
 import static bowling.Messages.WARNING_FRAME_NOT_ALLOWED_SUM;
+import static bowling.domain.PointGenerator.INDEX_FINAL_FOURTH;
+import static bowling.domain.PointGenerator.INDEX_FINAL_THIRD;
+import static bowling.domain.PointGenerator.POINTS_PER_FRAME;
 import static bowling.domain.frame.FrameResult.*;
 
 public class Frame {
-    private static final RandomGenerator RANDOM_GENERATOR = new RandomGenerator();
     private static final int SCORE_ZERO = 0;
     private static final int SCORE_TEN = 10;
     private static final int FRAME_ID_ZERO = 0;
@@ -20,40 +24,150 @@ public class Frame {
     private static final int FRAME_ID_NINETH = 9;
     private static final int FRAME_ID_FINAL = 10;
     private static final int INCREMENT_FOR_NEXT_ID = 1;
+    private static final int STRIKE_PLACEHOLDER_COUNT = 1;
 
-    private int frameId;
-    private Points points;
+    /*
+    Frame은 프레임 번호와 Points만 가지는 불변 객체이므로, 팩토리 메서드는 (프레임 번호, Points 모양)마다 하나씩만 만들어 재사용한다.
+    1~9프레임은 투구 2개짜리 모양만, 10프레임은 모든 모양을 캐시한다.
+     */
+    private static final Frame[][] CANONICAL_NORMAL_FRAMES = new Frame[FRAME_ID_NINETH][Points.TWO_POINT_SHAPE_COUNT];
+    private static final Frame[] CANONICAL_FINAL_FRAMES = new Frame[Points.SHAPE_COUNT];
+
+    private final int frameId;
+    private final Points points;
 
     public Frame(int prevFrameId, int first, int second) {
-        validate(first, second);
+        this(prevFrameId, first, second, RandomGenerator.current());
+    }
+
+    public Frame(int prevFrameId, int first, int second, PointGenerator pointGenerator) {
+        this(prevFrameId, createPoints(prevFrameId + INCREMENT_FOR_NEXT_ID, first, second, pointGenerator));
+    }
+
+    public Frame(int prevFrameId, Points points) {
+        validate(points.getFirstPoint(), points.getSecondPoint());
         this.frameId = prevFrameId + INCREMENT_FOR_NEXT_ID;
-        points = Points.of(first, second, needOnePoint(first, second), needTwoPoints(first, second));
+        this.points = points;
+    }
+
+    public static Frame of(int prevFrameId, Points points) {
+        int frameId = prevFrameId + INCREMENT_FOR_NEXT_ID;
+        int shapeId = points.getShapeId();
+
+        if (frameId == FRAME_ID_FINAL && shapeId != Points.NOT_CANONICAL) {
+            return intern(CANONICAL_FINAL_FRAMES, shapeId, prevFrameId, points);
+        }
+
+        if (frameId >= FRAME_ID_FIRST && frameId <= FRAME_ID_NINETH
+                && shapeId != Points.NOT_CANONICAL && shapeId < Points.TWO_POINT_SHAPE_COUNT) {
+            return intern(CANONICAL_NORMAL_FRAMES[prevFrameId], shapeId, prevFrameId, points);
+        }
+
+        return new Frame(prevFrameId, points);
+    }
+
+    private static Frame intern(Frame[] canonicalFrames, int shapeId, int prevFrameId, Points points) {
+        Frame frame = canonicalFrames[shapeId];
+        if (frame == null) {
+            frame = new Frame(prevFrameId, points);
+            canonicalFrames[shapeId] = frame;
+        }
+        return frame;
     }
 
     public static Frame create() {
-        return new Frame(FRAME_ID_ZERO, RANDOM_GENERATOR.getFirstPoint(), RANDOM_GENERATOR.getSecondPoint());
+        return create(RandomGenerator.current());
+    }
+
+    public static Frame create(PointGenerator pointGenerator) {
+        return createWithGenerator(FRAME_ID_ZERO, pointGenerator);
     }
 
     public static Frames createTenFrames() {
+        return createTenFrames(RandomGenerator.current());
+    }
+
+    public static Frames createTenFrames(PointGenerator pointGenerator) {
         List<Frame> frames = new ArrayList<>();
-        Frame currentFrame = Frame.create();
+        Frame currentFrame = Frame.create(pointGenerator);
+        frames.add(currentFrame);
 
-        for (int i = FRAME_ID_FIRST; i <= FRAME_ID_FINAL; i++) {
+        for (int i = FRAME_ID_FIRST; i < FRAME_ID_FINAL; i++) {
+            currentFrame = currentFrame.createNextFrame(pointGenerator);
             frames.add(currentFrame);
-            currentFrame = currentFrame.createNextFrame();
         }
 
+        BowlingMetrics.get().recordGameGenerated();
         return Frames.of(frames);
     }
 
+    public static Frames createTenFrames(byte[] points, int offset) {
+        List<Frame> frames = new ArrayList<>();
+
+        for (int i = FRAME_ID_ZERO; i < FRAME_ID_NINETH; i++) {
+            int index = offset + i * POINTS_PER_FRAME;
+            frames.add(Frame.of(i, Points.of(points[index], points[index + 1])));
+        }
+
+        frames.add(Frame.of(FRAME_ID_NINETH, createFinalPoints(points, offset)));
+        return Frames.of(frames);
+    }
+
+    private static Points createFinalPoints(byte[] points, int offset) {
+        int index = offset + FRAME_ID_NINETH * POINTS_PER_FRAME;
+        int first = points[index];
+        int second = points[index + 1];
+        int third = points[offset + INDEX_FINAL_THIRD];
+        int fourth = points[offset + INDEX_FINAL_FOURTH];
+
+        if (first == SCORE_TEN) {
+            return Points.of(new int[]{first, second, third, fourth});
+        }
+
+        if (first + second == SCORE_TEN) {
+            return Points.of(new int[]{first, second, third});
+        }
+
+        return Points.of(first, second);
+    }
+
     public Frame createNextFrame() {
-        return new Frame(this.frameId, RANDOM_GENERATOR.getFirstPoint(), RANDOM_GENERATOR.getSecondPoint());
+        return createNextFrame(RandomGenerator.current());
+    }
+
+    public Frame createNextFrame(PointGenerator pointGenerator) {
+        return createWithGenerator(this.frameId, pointGenerator);
+    }
+
+    private static Frame createWithGenerator(int prevFrameId, PointGenerator pointGenerator) {
+        int first = pointGenerator.getFirstPoint();
+        int second = pointGenerator.getSecondPoint();
+        return Frame.of(prevFrameId, createPoints(prevFrameId + INCREMENT_FOR_NEXT_ID, first, second, pointGenerator));
+    }
+
+    private static Points createPoints(int frameId, int first, int second, PointGenerator pointGenerator) {
+        validate(first, second);
+        FrameResult frameResult = FrameResult.findResult(first, second);
+        boolean isFinalFrame = frameId == FRAME_ID_FINAL;
+
+        return Points.of(first, second, isFinalFrame && SPARE.equals(frameResult),
+                isFinalFrame && STRIKE.equals(frameResult), pointGenerator);
     }
 
     public int getPointSumOnlyThisFrame() {
         return points.sum();
     }
 
+    /*
+    스트라이크의 두 번째 칸은 자리만 채운 0이므로, 실제로 던진 투구 수는 저장된 칸 수에서 그만큼 뺀다.
+     */
+    public int getRollCount() {
+        if (isResult(STRIKE)) {
+            return points.getPointSize() - STRIKE_PLACEHOLDER_COUNT;
+        }
+        return points.getPointSize();
+    }
+
     public boolean isFirstFrame() {
         return frameId == FRAME_ID_FIRST;
     }
@@ -70,6 +184,10 @@ public class Frame {
         return frameResult.equals(points.findResult());
     }
 
+    public FrameResult getResult() {
+        return points.findResult();
+    }
+
     public int getPointAtOrdinal(Ordinal ordinal) {
         return Ordinal.getPoint(ordinal, points);
     }
@@ -106,26 +224,18 @@ public class Frame {
         return points.getFourthPoint();
     }
 
-    private boolean needOnePoint(int first, int second) {
-        return (isFinalFrame() && SPARE.equals(FrameResult.findResult(first, second)));
-    }
-
-    private boolean needTwoPoints(int first, int second) {
-        return (isFinalFrame() && STRIKE.equals(FrameResult.findResult(first, second)));
-    }
-
-    private void validate(int firstPoint, int secondPoint) {
+    private static void validate(int firstPoint, int secondPoint) {
         validateSecondWhenFirstTen(firstPoint, secondPoint);
         validateSumIsLessThanTen(firstPoint, secondPoint);
     }
 
-    private void validateSecondWhenFirstTen(int firstPoint, int secondPoint) {
+    private static void validateSecondWhenFirstTen(int firstPoint, int secondPoint) {
         if (firstPoint == SCORE_TEN && secondPoint != SCORE_ZERO) {
             throw new IllegalArgumentException(WARNING_FRAME_NOT_ALLOWED_SECOND_WHEN_STRIKE);
         }
     }
 
-    private void validateSumIsLessThanTen(int firstPoint, int secondPoint) {
+    private static void validateSumIsLessThanTen(int firstPoint, int secondPoint) {
         if (firstPoint + secondPoint > SCORE_TEN) {
             throw new IllegalArgumentException(WARNING_FRAME_NOT_ALLOWED_SUM);
         }
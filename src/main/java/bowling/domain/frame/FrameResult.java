@@ -8,6 +8,10 @@ public enum FrameResult {
     GUTTER(false, true, false, true),
     MISS;
 
+    private static final int POINT_MIN = 0;
+    private static final int POINT_MAX = 10;
+    private static final FrameResult[][] RESULTS = new FrameResult[POINT_MAX + 1][POINT_MAX + 1];
+
     private boolean isFirstTen;
     private boolean isSecondZero;
     private boolean isSumTen;
@@ -29,7 +33,22 @@ public enum FrameResult {
         this.isAllZero = isAllZero;
     }
 
+    static {
+        for (int first = POINT_MIN; first <= POINT_MAX; first++) {
+            for (int second = POINT_MIN; second <= POINT_MAX; second++) {
+                RESULTS[first][second] = classify(first, second);
+            }
+        }
+    }
+
     public static FrameResult findResult(int firstPoint, int secondPoint) {
+        if (isInRange(firstPoint) && isInRange(secondPoint)) {
+            return RESULTS[firstPoint][secondPoint];
+        }
+        return classify(firstPoint, secondPoint);
+    }
+
+    private static FrameResult classify(int firstPoint, int secondPoint) {
         return Arrays.stream(values())
                 .filter(value -> value.isFirstTen == isFirstTen(firstPoint))
                 .filter(value -> value.isSecondZero == isSecondZero(secondPoint))
@@ -39,6 +58,10 @@ public enum FrameResult {
                 .orElse(MISS);
     }
 
+    private static boolean isInRange(int point) {
+        return point >= POINT_MIN && point <= POINT_MAX;
+    }
+
     private static boolean isFirstTen(int firstPoint) {
         return firstPoint == 10;
     }
@@ -1,19 +1,27 @@
 package bowling.domain.frame;
 
+import bowling.metrics.BowlingMetrics;
+
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.IntStream;
 
+import static bowling.domain.PointGenerator.INDEX_FINAL_FOURTH;
+import static bowling.domain.PointGenerator.INDEX_FINAL_THIRD;
+import static bowling.domain.PointGenerator.POINTS_PER_FRAME;
 import static bowling.domain.frame.FrameResult.SPARE;
 import static bowling.domain.frame.FrameResult.STRIKE;
+import static bowling.domain.point.Ordinal.FOURTH;
+import static bowling.domain.point.Ordinal.THIRD;
 
 public class Frames {
-    private static final int FIRST_FRAME_ID = 1;
     private static final int MAX_POINT = 10;
     private static final int DOUBLE = 2;
     private static final int OFFSET = 1;
 
     private List<Frame> frames;
+    private int[] totalPoints;
+    private int scoredFrameCount;
+    private long scoringNanos;
 
     public Frames(List<Frame> frames) {
         this.frames = Collections.unmodifiableList(frames);
@@ -51,9 +59,49 @@ public class Frames {
     }
 
     public int getTotalPointUntil(int currentFrameId) {
-        return IntStream.rangeClosed(FIRST_FRAME_ID, currentFrameId)
-                .map(it -> Frames.of(frames).getFrameScore(it))
-                .sum();
+        if (totalPoints == null) {
+            totalPoints = new int[frames.size() + OFFSET];
+        }
+
+        if (scoredFrameCount < currentFrameId) {
+            scoreUntil(currentFrameId);
+        }
+
+        return totalPoints[currentFrameId];
+    }
+
+    /*
+    점수는 화면이 프레임을 넘길 때마다 조금씩 계산되므로, 걸린 시간을 모았다가 마지막 프레임까지 계산한 때 한 게임의 채점 시간으로 기록한다.
+     */
+    private void scoreUntil(int currentFrameId) {
+        long startedAt = System.nanoTime();
+        int rollCount = 0;
+
+        while (scoredFrameCount < currentFrameId) {
+            int nextFrameId = scoredFrameCount + OFFSET;
+            totalPoints[nextFrameId] = totalPoints[scoredFrameCount] + getFrameScore(nextFrameId);
+            rollCount += frames.get(scoredFrameCount).getRollCount();
+            scoredFrameCount = nextFrameId;
+        }
+
+        scoringNanos += System.nanoTime() - startedAt;
+        if (scoredFrameCount == frames.size()) {
+            BowlingMetrics.get().recordScoring(rollCount, scoringNanos);
+            return;
+        }
+        BowlingMetrics.get().recordRollsScored(rollCount);
+    }
+
+    public void fillPoints(byte[] buffer, int offset) {
+        for (Frame frame : frames) {
+            int index = offset + (frame.getFrameId() - OFFSET) * POINTS_PER_FRAME;
+            buffer[index] = (byte) frame.getFirstPoint();
+            buffer[index + OFFSET] = (byte) frame.getSecondPoint();
+        }
+
+        Frame finalFrame = frames.get(frames.size() - OFFSET);
+        buffer[offset + INDEX_FINAL_THIRD] = (byte) (finalFrame.containsOrdinal(THIRD) ? finalFrame.getThirdPoint() : 0);
+        buffer[offset + INDEX_FINAL_FOURTH] = (byte) (finalFrame.containsOrdinal(FOURTH) ? finalFrame.getFourthPoint() : 0);
     }
 
     private Frame getNextFrameByCurrentId(int currentFrameId) {
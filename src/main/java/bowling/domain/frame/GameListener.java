@@ -0,0 +1,12 @@
+package bowling.domain.frame;
+
+public interface GameListener {
+    GameListener NONE = new GameListener() {
+    };
+
+    default void onFrameCompleted(Frame frame) {
+    }
+
+    default void onScoreUpdated(int frameId, int totalPoint) {
+    }
+}
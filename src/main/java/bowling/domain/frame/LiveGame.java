@@ -0,0 +1,219 @@
+package bowling.domain.frame;
+
+import bowling.domain.point.Ordinal;
+import bowling.domain.point.Point;
+import bowling.domain.point.Points;
+import bowling.metrics.BowlingMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static bowling.Messages.*;
+import static bowling.domain.frame.FrameResult.SPARE;
+import static bowling.domain.frame.FrameResult.STRIKE;
+import static bowling.domain.point.Ordinal.*;
+
+public class LiveGame {
+    private static final int FRAME_ID_FIRST = 1;
+    private static final int FRAME_ID_NINETH = 9;
+    private static final int FRAME_ID_FINAL = 10;
+    private static final int SCORE_TEN = 10;
+    private static final int DOUBLE = 2;
+    private static final int NOT_SCORED = -1;
+    private static final int MIN_POINT_SIZE = 2;
+    private static final int OFFSET = 1;
+    private static final int ONE_ROLL = 1;
+
+    private final GameListener listener;
+    private final int[][] points = new int[FRAME_ID_FINAL + OFFSET][Ordinal.values().length];
+    private final int[] totalPoints = new int[FRAME_ID_FINAL + OFFSET];
+    private final List<Frame> frames = new ArrayList<>();
+    private int frameId = FRAME_ID_FIRST;
+    private Ordinal nextOrdinal = FIRST;
+    private int scoredFrameCount;
+    private boolean finished;
+
+    public LiveGame() {
+        this(GameListener.NONE);
+    }
+
+    public LiveGame(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public void roll(int pins) {
+        if (finished) {
+            throw new IllegalArgumentException(WARNING_LIVEGAME_ALREADY_FINISHED);
+        }
+
+        int point = Point.of(pins).getScore();
+        validateSum(point);
+        points[frameId][nextOrdinal.ordinal()] = point;
+
+        if (frameId == FRAME_ID_FINAL) {
+            advanceFinalFrame(point);
+        } else {
+            advanceNormalFrame(point);
+        }
+
+        scoreResolvedFrames();
+        BowlingMetrics.get().recordRollsScored(ONE_ROLL);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int getCurrentFrameId() {
+        return frameId;
+    }
+
+    public int getScoredFrameCount() {
+        return scoredFrameCount;
+    }
+
+    public int getTotalPointUntil(int frameId) {
+        if (frameId > scoredFrameCount) {
+            throw new IllegalArgumentException(WARNING_LIVEGAME_NOT_SCORED_FRAME);
+        }
+        return totalPoints[frameId];
+    }
+
+    public Frames toFrames() {
+        return Frames.of(new ArrayList<>(frames));
+    }
+
+    private void validateSum(int point) {
+        if (nextOrdinal == SECOND && points[frameId][FIRST.ordinal()] + point > SCORE_TEN) {
+            throw new IllegalArgumentException(WARNING_FRAME_NOT_ALLOWED_SUM);
+        }
+
+        if (nextOrdinal == FOURTH && points[frameId][THIRD.ordinal()] + point > SCORE_TEN) {
+            throw new IllegalArgumentException(WARNING_FRAME_NOT_ALLOWED_BONUS_SUM);
+        }
+    }
+
+    private void advanceNormalFrame(int point) {
+        if (nextOrdinal == FIRST && point != SCORE_TEN) {
+            nextOrdinal = SECOND;
+            return;
+        }
+        completeFrame();
+    }
+
+    /*
+    10프레임이 스트라이크면 두 번째 포인트는 0으로 두고 세 번째, 네 번째 투구를 받는다. (Frame과 같은 규칙)
+     */
+    private void advanceFinalFrame(int point) {
+        int[] finalPoints = points[FRAME_ID_FINAL];
+
+        if (nextOrdinal == FIRST) {
+            nextOrdinal = (point == SCORE_TEN) ? THIRD : SECOND;
+            return;
+        }
+
+        if (nextOrdinal == SECOND && finalPoints[FIRST.ordinal()] + point == SCORE_TEN) {
+            nextOrdinal = THIRD;
+            return;
+        }
+
+        if (nextOrdinal == THIRD && finalPoints[FIRST.ordinal()] == SCORE_TEN) {
+            nextOrdinal = FOURTH;
+            return;
+        }
+
+        completeFrame();
+    }
+
+    private void completeFrame() {
+        int pointSize = Math.max(MIN_POINT_SIZE, nextOrdinal.ordinal() + OFFSET);
+        Frame frame = Frame.of(frameId - OFFSET, Points.of(Arrays.copyOf(points[frameId], pointSize)));
+        frames.add(frame);
+        listener.onFrameCompleted(frame);
+
+        if (frameId == FRAME_ID_FINAL) {
+            finished = true;
+            return;
+        }
+
+        frameId++;
+        nextOrdinal = FIRST;
+    }
+
+    private void scoreResolvedFrames() {
+        while (scoredFrameCount < frames.size()) {
+            int nextFrameId = scoredFrameCount + OFFSET;
+            int frameScore = findFrameScore(nextFrameId);
+
+            if (frameScore == NOT_SCORED) {
+                return;
+            }
+
+            totalPoints[nextFrameId] = totalPoints[scoredFrameCount] + frameScore;
+            scoredFrameCount = nextFrameId;
+            listener.onScoreUpdated(nextFrameId, totalPoints[nextFrameId]);
+        }
+    }
+
+    private int findFrameScore(int frameId) {
+        if (frameId == FRAME_ID_FINAL) {
+            return sumOf(frameId);
+        }
+
+        FrameResult frameResult = FrameResult.findResult(points[frameId][FIRST.ordinal()],
+                points[frameId][SECOND.ordinal()]);
+
+        if (frameResult == STRIKE) {
+            return findFrameScoreWhenStrike(frameId);
+        }
+
+        if (frameResult == SPARE) {
+            int nextFrameId = frameId + OFFSET;
+            return isRolled(nextFrameId, FIRST)
+                    ? SCORE_TEN + points[nextFrameId][FIRST.ordinal()]
+                    : NOT_SCORED;
+        }
+
+        return sumOf(frameId);
+    }
+
+    private int findFrameScoreWhenStrike(int frameId) {
+        int nextFrameId = frameId + OFFSET;
+
+        if (!isRolled(nextFrameId, FIRST)) {
+            return NOT_SCORED;
+        }
+
+        if (points[nextFrameId][FIRST.ordinal()] != SCORE_TEN) {
+            return isCompleted(nextFrameId) ? SCORE_TEN + sumOf(nextFrameId) : NOT_SCORED;
+        }
+
+        if (frameId == FRAME_ID_NINETH) {
+            return isRolled(nextFrameId, THIRD)
+                    ? (SCORE_TEN * DOUBLE) + points[nextFrameId][THIRD.ordinal()]
+                    : NOT_SCORED;
+        }
+
+        int nextOfNextFrameId = nextFrameId + OFFSET;
+        return isRolled(nextOfNextFrameId, FIRST)
+                ? (SCORE_TEN * DOUBLE) + points[nextOfNextFrameId][FIRST.ordinal()]
+                : NOT_SCORED;
+    }
+
+    private boolean isCompleted(int frameId) {
+        return frameId <= frames.size();
+    }
+
+    private boolean isRolled(int frameId, Ordinal ordinal) {
+        return isCompleted(frameId) || (frameId == this.frameId && nextOrdinal.ordinal() > ordinal.ordinal());
+    }
+
+    private int sumOf(int frameId) {
+        int sum = 0;
+        for (int point : points[frameId]) {
+            sum += point;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,71 @@
+package bowling.domain.frame;
+
+import bowling.domain.point.Point;
+
+import static bowling.Messages.*;
+import static bowling.domain.PointGenerator.*;
+
+/*
+실제로 던진 순서대로의 투구(스트라이크는 한 번)를 PointGenerator.fillGame과 같은 배치로 옮긴다.
+검증 규칙은 Point, Frame, LiveGame과 같다.
+ */
+public class RollSequence {
+    private static final int FRAME_INDEX_FINAL = FRAME_COUNT - 1;
+    private static final int SECOND_OFFSET = 1;
+
+    public static void fillGame(int[] rolls, int rollCount, byte[] points, int offset) {
+        int roll = 0;
+
+        for (int frame = 0; frame < FRAME_INDEX_FINAL; frame++) {
+            int index = offset + frame * POINTS_PER_FRAME;
+            int first = getRoll(rolls, rollCount, roll++);
+            int second = (first == MAX_POINT) ? 0 : getRoll(rolls, rollCount, roll++);
+            validateSum(first, second, WARNING_FRAME_NOT_ALLOWED_SUM);
+            points[index] = (byte) first;
+            points[index + SECOND_OFFSET] = (byte) second;
+        }
+
+        roll = fillFinalFrame(rolls, rollCount, roll, points, offset);
+
+        if (roll != rollCount) {
+            throw new IllegalArgumentException(WARNING_ROLLS_NOT_MATCHED_COUNT);
+        }
+    }
+
+    private static int fillFinalFrame(int[] rolls, int rollCount, int roll, byte[] points, int offset) {
+        int first = getRoll(rolls, rollCount, roll++);
+        int second = 0;
+        int third = 0;
+        int fourth = 0;
+
+        if (first == MAX_POINT) {
+            third = getRoll(rolls, rollCount, roll++);
+            fourth = getRoll(rolls, rollCount, roll++);
+            validateSum(third, fourth, WARNING_FRAME_NOT_ALLOWED_BONUS_SUM);
+        } else {
+            second = getRoll(rolls, rollCount, roll++);
+            validateSum(first, second, WARNING_FRAME_NOT_ALLOWED_SUM);
+            third = (first + second == MAX_POINT) ? getRoll(rolls, rollCount, roll++) : 0;
+        }
+
+        int index = offset + FRAME_INDEX_FINAL * POINTS_PER_FRAME;
+        points[index] = (byte) first;
+        points[index + SECOND_OFFSET] = (byte) second;
+        points[offset + INDEX_FINAL_THIRD] = (byte) third;
+        points[offset + INDEX_FINAL_FOURTH] = (byte) fourth;
+        return roll;
+    }
+
+    private static int getRoll(int[] rolls, int rollCount, int roll) {
+        if (roll >= rollCount) {
+            throw new IllegalArgumentException(WARNING_ROLLS_NOT_MATCHED_COUNT);
+        }
+        return Point.of(rolls[roll]).getScore();
+    }
+
+    private static void validateSum(int first, int second, String message) {
+        if (first + second > MAX_POINT) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+}
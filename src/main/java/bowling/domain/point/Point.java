@@ -5,8 +5,9 @@ import static bowling.Messages.WARNING_SCORE_NOT_ALLOWED_RANGE;
 public class Point {
     private static final int RANGE_MAX = 10;
     private static final int RANGE_MIN = 0;
+    private static final Point[] CACHE = createCache();
 
-    private int score;
+    private final int score;
 
     public Point(int score) {
         validateRange(score);
@@ -14,13 +15,22 @@ public class Point {
     }
 
     public static Point of(int score) {
-        return new Point(score);
+        return CACHE[validateRange(score)];
     }
 
-    private void validateRange(int score) {
+    private static Point[] createCache() {
+        Point[] cache = new Point[RANGE_MAX + 1];
+        for (int score = RANGE_MIN; score <= RANGE_MAX; score++) {
+            cache[score] = new Point(score);
+        }
+        return cache;
+    }
+
+    static int validateRange(int score) {
         if (score > RANGE_MAX || score < RANGE_MIN) {
             throw new IllegalArgumentException(WARNING_SCORE_NOT_ALLOWED_RANGE);
         }
+        return score;
     }
 
     public int getScore() {
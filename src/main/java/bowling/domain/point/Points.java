@@ -1,25 +1,52 @@
 package bowling.domain.point;
 
+import bowling.domain.PointGenerator;
 import bowling.domain.RandomGenerator;
 import bowling.domain.frame.FrameResult;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 
+import static bowling.Messages.WARNING_ORDINAL_NOT_FOUND_MATCHED_ORDINAL;
 import static bowling.domain.point.Ordinal.*;
 
 public class Points {
-    private static final RandomGenerator RANDOM_GENERATOR = new RandomGenerator();
-
-    private Map<Ordinal, Point> points;
+    private static final int BITS_PER_POINT = 4;
+    private static final int POINT_MASK = 0xF;
+    private static final int SIZE_SHIFT = BITS_PER_POINT * 4;
+    private static final int POINT_KIND_COUNT = 11;
+    private static final int MIN_SHAPE_SIZE = SECOND.ordinal() + 1;
+    private static final int MAX_SHAPE_SIZE = FOURTH.ordinal() + 1;
+    private static final int THREE_POINT_SHAPE_COUNT = POINT_KIND_COUNT * POINT_KIND_COUNT * POINT_KIND_COUNT;
+    private static final int FOUR_POINT_SHAPE_COUNT = THREE_POINT_SHAPE_COUNT * POINT_KIND_COUNT;
+    public static final int NOT_CANONICAL = -1;
+    public static final int TWO_POINT_SHAPE_COUNT = POINT_KIND_COUNT * POINT_KIND_COUNT;
+    public static final int SHAPE_COUNT = TWO_POINT_SHAPE_COUNT + THREE_POINT_SHAPE_COUNT + FOUR_POINT_SHAPE_COUNT;
+    private static final int[] SHAPE_OFFSETS = {0, 0, 0, TWO_POINT_SHAPE_COUNT, TWO_POINT_SHAPE_COUNT + THREE_POINT_SHAPE_COUNT};
+
+    /*
+    투구 2~4개짜리 Points는 모양(shape)마다 하나의 인스턴스만 만들어 공유한다.
+    필드가 모두 final이므로 두 스레드가 동시에 처음 만들더라도 어느 쪽이 남든 안전하다.
+     */
+    private static final Points[] CANONICAL = new Points[SHAPE_COUNT];
+
+    /*
+    투구 점수(0~10)는 4비트에 들어가므로, Ordinal 순서대로 4비트씩 하나의 int에 담고
+    그 위 비트에 투구 횟수를 저장한다. 투구마다 Point 객체와 Map을 만들지 않기 위함이다.
+     */
+    private final int packedPoints;
+    private final int shapeId;
+
+    private Points(int packedPoints) {
+        this.packedPoints = packedPoints;
+        this.shapeId = toShapeId(packedPoints);
+    }
 
     public Points(Map<Ordinal, Point> points) {
-        this.points = Collections.unmodifiableMap(points);
+        this(pack(points));
     }
 
     public static Points of(Map<Ordinal, Point> points) {
-        return new Points(points);
+        return intern(pack(points));
     }
 
     public static Points of(int firstPoint, int secondPoint) {
@@ -27,58 +54,137 @@ public class Points {
     }
 
     public static Points of(int first, int second, boolean needOnePoint, boolean needTwoPoints) {
-        Map<Ordinal, Point> points = new HashMap<>();
-        points.put(FIRST, Point.of(first));
-        points.put(SECOND, Point.of(second));
+        return Points.of(first, second, needOnePoint, needTwoPoints, RandomGenerator.current());
+    }
+
+    public static Points of(int first, int second, boolean needOnePoint, boolean needTwoPoints,
+                            PointGenerator pointGenerator) {
+        int packed = pack(FIRST, Point.validateRange(first)) | pack(SECOND, Point.validateRange(second));
+        int size = SECOND.ordinal() + 1;
 
         if (needOnePoint) {
-            points.put(THIRD, Point.of(RANDOM_GENERATOR.getThirdPoint()));
+            packed |= pack(THIRD, Point.validateRange(pointGenerator.getThirdPoint()));
+            size = THIRD.ordinal() + 1;
         }
 
         if (needTwoPoints) {
-            points.put(THIRD, Point.of(RANDOM_GENERATOR.getThirdPointForStrike()));
-            points.put(FOURTH, Point.of(RANDOM_GENERATOR.getFourthPointForStrike()));
+            packed |= pack(THIRD, Point.validateRange(pointGenerator.getThirdPointForStrike()));
+            packed |= pack(FOURTH, Point.validateRange(pointGenerator.getFourthPointForStrike()));
+            size = FOURTH.ordinal() + 1;
         }
 
-        return Points.of(points);
+        return intern(packed | (size << SIZE_SHIFT));
+    }
+
+    public static Points of(int[] points) {
+        if (points.length < SECOND.ordinal() + 1 || points.length > FOURTH.ordinal() + 1) {
+            throw new IllegalArgumentException(WARNING_ORDINAL_NOT_FOUND_MATCHED_ORDINAL);
+        }
+
+        int packed = points.length << SIZE_SHIFT;
+        for (Ordinal ordinal : Ordinal.values()) {
+            if (ordinal.ordinal() < points.length) {
+                packed |= pack(ordinal, Point.validateRange(points[ordinal.ordinal()]));
+            }
+        }
+        return intern(packed);
+    }
+
+    private static Points intern(int packed) {
+        int shapeId = toShapeId(packed);
+        if (shapeId == NOT_CANONICAL) {
+            return new Points(packed);
+        }
+
+        Points points = CANONICAL[shapeId];
+        if (points == null) {
+            points = new Points(packed);
+            CANONICAL[shapeId] = points;
+        }
+        return points;
+    }
+
+    private static int toShapeId(int packed) {
+        int size = packed >>> SIZE_SHIFT;
+        if (size < MIN_SHAPE_SIZE || size > MAX_SHAPE_SIZE) {
+            return NOT_CANONICAL;
+        }
+
+        int shapeId = 0;
+        for (int i = size - 1; i >= 0; i--) {
+            shapeId = shapeId * POINT_KIND_COUNT + ((packed >>> (i * BITS_PER_POINT)) & POINT_MASK);
+        }
+        return SHAPE_OFFSETS[size] + shapeId;
+    }
+
+    /*
+    투구 횟수만 저장하므로 FIRST부터 빠짐없이 이어진 Map만 받는다. {FIRST, THIRD}처럼 중간이 빠지면 예외 발생
+     */
+    private static int pack(Map<Ordinal, Point> points) {
+        for (Ordinal ordinal : Ordinal.values()) {
+            if (ordinal.ordinal() < points.size() && !points.containsKey(ordinal)) {
+                throw new IllegalArgumentException(WARNING_ORDINAL_NOT_FOUND_MATCHED_ORDINAL);
+            }
+        }
+
+        int packed = points.size() << SIZE_SHIFT;
+        for (Map.Entry<Ordinal, Point> entry : points.entrySet()) {
+            packed |= pack(entry.getKey(), entry.getValue().getScore());
+        }
+        return packed;
+    }
+
+    private static int pack(Ordinal ordinal, int score) {
+        return score << (ordinal.ordinal() * BITS_PER_POINT);
+    }
+
+    /*
+    같은 모양의 Points는 같은 번호를 가진다. 투구 2개짜리는 0 ~ TWO_POINT_SHAPE_COUNT-1 사이이다.
+     */
+    public int getShapeId() {
+        return shapeId;
     }
 
     public int getPointSize() {
-        return this.points.size();
+        return packedPoints >>> SIZE_SHIFT;
     }
 
     public FrameResult findResult() {
-        Point first = points.get(FIRST);
-        Point second = points.get(SECOND);
-
-        return FrameResult.findResult(first.getScore(), second.getScore());
+        return FrameResult.findResult(getFirstPoint(), getSecondPoint());
     }
 
     public int sum() {
-        return points.keySet().stream()
-                .filter(it -> Ordinal.values() != null)
-                .map(it -> points.get(it))
-                .mapToInt(Point::getScore)
-                .sum();
+        int sum = 0;
+        for (int i = 0; i < getPointSize(); i++) {
+            sum += (packedPoints >>> (i * BITS_PER_POINT)) & POINT_MASK;
+        }
+        return sum;
     }
 
     public boolean containsOrdinal(Ordinal ordinal) {
-        return points.keySet().contains(ordinal);
+        return ordinal.ordinal() < getPointSize();
+    }
+
+    public int getPoint(Ordinal ordinal) {
+        if (!containsOrdinal(ordinal)) {
+            throw new IllegalArgumentException(WARNING_ORDINAL_NOT_FOUND_MATCHED_ORDINAL);
+        }
+        return (packedPoints >>> (ordinal.ordinal() * BITS_PER_POINT)) & POINT_MASK;
     }
 
     public int getFirstPoint() {
-        return points.get(FIRST).getScore();
+        return getPoint(FIRST);
     }
 
     public int getSecondPoint() {
-        return points.get(SECOND).getScore();
+        return getPoint(SECOND);
     }
 
     public int getThirdPoint() {
-        return points.get(THIRD).getScore();
+        return getPoint(THIRD);
     }
 
     public int getFourthPoint() {
-        return points.get(FOURTH).getScore();
+        return getPoint(FOURTH);
     }
-}
\ No newline at end of file
+}
@@ -34,4 +34,8 @@ public class GameResult {
     public int getScoreUntilFrame(int frameId) {
         return frames.getTotalPointUntil(frameId);
     }
+
+    public void fillPoints(byte[] buffer, int offset) {
+        frames.fillPoints(buffer, offset);
+    }
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package bowling.domain.result;
 
 import bowling.domain.PlayerName;
+import bowling.domain.PlayerNameSet;
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
 import bowling.domain.frame.Frame;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 import static java.util.stream.Collectors.*;
 
@@ -22,20 +24,22 @@ public class GameResults {
     }
 
     public static GameResults createWithPlayerNames(List<PlayerName> playerNames) {
+        return createWithPlayerNames(playerNames, RandomGenerator.current());
+    }
+
+    public static GameResults createWithPlayerNames(List<PlayerName> playerNames, PointGenerator pointGenerator) {
         return playerNames.stream()
-                .map(playerName -> GameResult.of(playerName, Frame.createTenFrames()))
+                .map(playerName -> GameResult.of(playerName, Frame.createTenFrames(pointGenerator)))
                 .collect(collectingAndThen(toList(), GameResults::new));
     }
 
     private void validateDuplicationPlayerName(List<GameResult> results) {
-        Set<String> names = results.stream()
-                .map(GameResult::getPlayerName)
-                .map(PlayerName::getName)
-                .map(String::toLowerCase)
-                .collect(toSet());
-
-        if (results.size() != names.size()) {
-            throw new IllegalArgumentException();
+        PlayerNameSet names = new PlayerNameSet(results.size());
+
+        for (GameResult result : results) {
+            if (!names.add(result.getPlayerName())) {
+                throw new IllegalArgumentException();
+            }
         }
     }
 
@@ -0,0 +1,195 @@
+package bowling.domain.result;
+
+import bowling.domain.PlayerName;
+import bowling.domain.frame.GameListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static bowling.Messages.WARNING_LEADERBOARD_NOT_ALLOWED_SCORE;
+import static bowling.Messages.WARNING_LEADERBOARD_NOT_FOUND_PLAYER;
+
+/*
+플레이어마다 최고 점수 하나로 순위를 매긴다.
+점수는 0~300 사이이므로 점수별 인원을 펜윅 트리에 두어 순위와 범위 인원을 O(log 301)에 구하고,
+같은 점수의 플레이어는 이름순으로 점수별 버킷에 둔다.
+ */
+public class Leaderboard {
+    private static final int MIN_SCORE = 0;
+    private static final int MAX_SCORE = 300;
+    private static final int FRAME_ID_FINAL = 10;
+    private static final int OFFSET = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> bestScores = new HashMap<>();
+    private final List<TreeSet<String>> playersByScore = new ArrayList<>();
+    private final int[] tree = new int[MAX_SCORE + OFFSET + OFFSET];
+
+    public Leaderboard() {
+        for (int score = MIN_SCORE; score <= MAX_SCORE; score++) {
+            playersByScore.add(new TreeSet<>());
+        }
+    }
+
+    public void record(GameResults gameResults) {
+        for (GameResult gameResult : gameResults.getResults()) {
+            record(gameResult);
+        }
+    }
+
+    public void record(GameResult gameResult) {
+        record(gameResult.getPlayerName(), gameResult.getScoreUntilFrame(FRAME_ID_FINAL));
+    }
+
+    public void record(PlayerName playerName, int score) {
+        validateScore(score);
+        String name = playerName.getName();
+
+        lock.writeLock().lock();
+        try {
+            Integer bestScore = bestScores.get(name);
+            if (bestScore != null && bestScore >= score) {
+                return;
+            }
+
+            if (bestScore != null) {
+                playersByScore.get(bestScore).remove(name);
+                add(bestScore, -OFFSET);
+            }
+            bestScores.put(name, score);
+            playersByScore.get(score).add(name);
+            add(score, OFFSET);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+    LiveGame에 넘기면 10프레임 점수가 정해지는 순간 기록한다.
+     */
+    public GameListener listenerFor(PlayerName playerName) {
+        return new GameListener() {
+            @Override
+            public void onScoreUpdated(int frameId, int totalPoint) {
+                if (frameId == FRAME_ID_FINAL) {
+                    record(playerName, totalPoint);
+                }
+            }
+        };
+    }
+
+    public List<LeaderboardEntry> getTop(int count) {
+        List<LeaderboardEntry> entries = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (int score = MAX_SCORE; score >= MIN_SCORE && entries.size() < count; score--) {
+                int rank = countAbove(score) + OFFSET;
+                for (String name : playersByScore.get(score)) {
+                    if (entries.size() == count) {
+                        break;
+                    }
+                    entries.add(LeaderboardEntry.of(rank, name, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return entries;
+    }
+
+    public int getRank(PlayerName playerName) {
+        lock.readLock().lock();
+        try {
+            return countAbove(getBestScoreLocked(playerName)) + OFFSET;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getBestScore(PlayerName playerName) {
+        lock.readLock().lock();
+        try {
+            return getBestScoreLocked(playerName);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countInRange(int minScore, int maxScore) {
+        validateScore(minScore);
+        validateScore(maxScore);
+
+        lock.readLock().lock();
+        try {
+            return Math.max(0, sumUntil(maxScore) - sumUntil(minScore - OFFSET));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntry> getEntriesInRange(int minScore, int maxScore) {
+        validateScore(minScore);
+        validateScore(maxScore);
+        List<LeaderboardEntry> entries = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (int score = maxScore; score >= minScore; score--) {
+                int rank = countAbove(score) + OFFSET;
+                for (String name : playersByScore.get(score)) {
+                    entries.add(LeaderboardEntry.of(rank, name, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return entries;
+    }
+
+    public int getPlayerCount() {
+        lock.readLock().lock();
+        try {
+            return bestScores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int getBestScoreLocked(PlayerName playerName) {
+        Integer bestScore = bestScores.get(playerName.getName());
+        if (bestScore == null) {
+            throw new IllegalArgumentException(WARNING_LEADERBOARD_NOT_FOUND_PLAYER);
+        }
+        return bestScore;
+    }
+
+    private int countAbove(int score) {
+        return bestScores.size() - sumUntil(score);
+    }
+
+    private void add(int score, int delta) {
+        for (int i = score + OFFSET; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int sumUntil(int score) {
+        int sum = 0;
+        for (int i = score + OFFSET; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private void validateScore(int score) {
+        if (score < MIN_SCORE || score > MAX_SCORE) {
+            throw new IllegalArgumentException(WARNING_LEADERBOARD_NOT_ALLOWED_SCORE);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package bowling.domain.result;
+
+import java.util.Objects;
+
+public class LeaderboardEntry {
+    private final int rank;
+    private final String name;
+    private final int score;
+
+    public LeaderboardEntry(int rank, String name, int score) {
+        this.rank = rank;
+        this.name = name;
+        this.score = score;
+    }
+
+    public static LeaderboardEntry of(int rank, String name, int score) {
+        return new LeaderboardEntry(rank, name, score);
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LeaderboardEntry that = (LeaderboardEntry) o;
+        return rank == that.rank &&
+                score == that.score &&
+                Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rank, name, score);
+    }
+}
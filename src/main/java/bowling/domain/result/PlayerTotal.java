@@ -0,0 +1,49 @@
+package bowling.domain.result;
+
+public class PlayerTotal {
+    private final String name;
+    private long gameCount;
+    private long scoreSum;
+    private int bestScore;
+
+    public PlayerTotal(String name) {
+        this.name = name;
+    }
+
+    public static PlayerTotal of(String name) {
+        return new PlayerTotal(name);
+    }
+
+    public void record(int score) {
+        gameCount++;
+        scoreSum += score;
+        bestScore = Math.max(bestScore, score);
+    }
+
+    public PlayerTotal merge(PlayerTotal other) {
+        gameCount += other.gameCount;
+        scoreSum += other.scoreSum;
+        bestScore = Math.max(bestScore, other.bestScore);
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public long getScoreSum() {
+        return scoreSum;
+    }
+
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    public double getAverageScore() {
+        return gameCount == 0 ? 0 : (double) scoreSum / gameCount;
+    }
+}
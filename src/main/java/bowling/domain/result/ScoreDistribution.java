@@ -0,0 +1,191 @@
+package bowling.domain.result;
+
+import static bowling.Messages.WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE;
+
+/*
+RandomGenerator의 분포(첫 투구 0~10 균등, 두 번째 투구는 남은 핀 수 안에서 균등, 10프레임 보너스 투구 포함)를 따를 때
+최종 점수(0~300)의 정확한 확률 분포를 구한다.
+프레임마다 아직 보너스를 받지 못한 프레임의 상태(Pending)별로 점수 분포를 들고 다음 프레임으로 넘기는 동적 계획법이다.
+점수 규칙은 Frames.getFrameScore와 같다.
+ */
+public class ScoreDistribution {
+    private static final int MAX_SCORE = 300;
+    private static final int MAX_POINT = 10;
+    private static final int FRAME_ID_FINAL = 10;
+    private static final double PERCENTILE_MIN = 0;
+    private static final double PERCENTILE_MAX = 100;
+    private static final double EPSILON = 1e-12;
+    private static final ScoreDistribution RANDOM_GAME = new ScoreDistribution(computeRandomGame());
+
+    private final double[] probabilities;
+
+    private ScoreDistribution(double[] probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    public static ScoreDistribution ofRandomGame() {
+        return RANDOM_GAME;
+    }
+
+    public double getProbability(int score) {
+        if (score < 0 || score > MAX_SCORE) {
+            return 0;
+        }
+        return probabilities[score];
+    }
+
+    public double getCumulativeProbability(int score) {
+        double cumulative = 0;
+        for (int i = 0; i <= Math.min(score, MAX_SCORE); i++) {
+            cumulative += probabilities[i];
+        }
+        return cumulative;
+    }
+
+    public double getExpectedScore() {
+        double expected = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            expected += score * probabilities[score];
+        }
+        return expected;
+    }
+
+    public int getScoreAtPercentile(double percentile) {
+        if (percentile < PERCENTILE_MIN || percentile > PERCENTILE_MAX) {
+            throw new IllegalArgumentException(WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE);
+        }
+
+        double target = percentile / PERCENTILE_MAX - EPSILON;
+        double cumulative = 0;
+
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            cumulative += probabilities[score];
+            if (probabilities[score] > 0 && cumulative >= target) {
+                return score;
+            }
+        }
+
+        return MAX_SCORE;
+    }
+
+    private static double[] computeRandomGame() {
+        double[][] current = new double[Pending.values().length][MAX_SCORE + 1];
+        current[Pending.NONE.ordinal()][0] = 1;
+
+        for (int frameId = 1; frameId < FRAME_ID_FINAL; frameId++) {
+            current = rollNormalFrame(current);
+        }
+
+        return rollFinalFrame(current);
+    }
+
+    private static double[][] rollNormalFrame(double[][] current) {
+        double[][] next = new double[Pending.values().length][MAX_SCORE + 1];
+
+        for (Pending pending : Pending.values()) {
+            for (int first = 0; first <= MAX_POINT; first++) {
+                for (int second = 0; first + second <= MAX_POINT; second++) {
+                    double probability = probabilityOf(first, second);
+                    int gained = first + second + pending.bonusOfNextFrame(first, second);
+                    Pending nextPending = pending.next(first, second);
+                    addShifted(current[pending.ordinal()], next[nextPending.ordinal()], gained, probability);
+                }
+            }
+        }
+
+        return next;
+    }
+
+    private static double[] rollFinalFrame(double[][] current) {
+        double[] result = new double[MAX_SCORE + 1];
+
+        for (Pending pending : Pending.values()) {
+            for (int first = 0; first <= MAX_POINT; first++) {
+                for (int second = 0; first + second <= MAX_POINT; second++) {
+                    rollFinalBonus(current[pending.ordinal()], result, pending, first, second,
+                            probabilityOf(first, second));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static void rollFinalBonus(double[] from, double[] to, Pending pending, int first, int second,
+                                       double probability) {
+        if (first == MAX_POINT) {
+            for (int third = 0; third <= MAX_POINT; third++) {
+                for (int fourth = 0; third + fourth <= MAX_POINT; fourth++) {
+                    int gained = first + second + third + fourth
+                            + pending.bonusOfFinalFrame(first, second, third, fourth);
+                    addShifted(from, to, gained, probability * probabilityOf(third, fourth));
+                }
+            }
+            return;
+        }
+
+        if (first + second == MAX_POINT) {
+            for (int third = 0; third <= MAX_POINT; third++) {
+                int gained = first + second + third + pending.bonusOfFinalFrame(first, second, third, 0);
+                addShifted(from, to, gained, probability / (MAX_POINT + 1));
+            }
+            return;
+        }
+
+        addShifted(from, to, first + second + pending.bonusOfFinalFrame(first, second, 0, 0), probability);
+    }
+
+    private static double probabilityOf(int first, int second) {
+        return 1.0 / (MAX_POINT + 1) / (MAX_POINT + 1 - first);
+    }
+
+    private static void addShifted(double[] from, double[] to, int shift, double probability) {
+        for (int score = 0; score + shift <= MAX_SCORE; score++) {
+            to[score + shift] += from[score] * probability;
+        }
+    }
+
+    /*
+    직전 프레임까지 보너스를 기다리는 상태
+    NONE: 없음, SPARE: 직전 프레임이 스페어, STRIKE: 직전 프레임이 스트라이크,
+    DOUBLE: 직전 두 프레임이 모두 스트라이크 (두 프레임 전 프레임은 이번 프레임의 첫 투구를 기다린다)
+     */
+    private enum Pending {
+        NONE,
+        SPARE,
+        STRIKE,
+        DOUBLE;
+
+        int bonusOfNextFrame(int first, int second) {
+            int bonus = (this == SPARE || this == DOUBLE) ? first : 0;
+
+            if (this == STRIKE || this == DOUBLE) {
+                bonus += (first == MAX_POINT) ? MAX_POINT : first + second;
+            }
+
+            return bonus;
+        }
+
+        int bonusOfFinalFrame(int first, int second, int third, int fourth) {
+            int bonus = (this == SPARE || this == DOUBLE) ? first : 0;
+
+            if (this == STRIKE || this == DOUBLE) {
+                bonus += (first == MAX_POINT) ? MAX_POINT + third : first + second + third + fourth;
+            }
+
+            return bonus;
+        }
+
+        Pending next(int first, int second) {
+            if (first == MAX_POINT) {
+                return (this == STRIKE || this == DOUBLE) ? DOUBLE : STRIKE;
+            }
+
+            if (first + second == MAX_POINT) {
+                return SPARE;
+            }
+
+            return NONE;
+        }
+    }
+}
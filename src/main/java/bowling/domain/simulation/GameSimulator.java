@@ -0,0 +1,75 @@
+package bowling.domain.simulation;
+
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import bowling.domain.frame.Frame;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static bowling.Messages.WARNING_SIMULATION_NON_POSITIVE_GAME_COUNT;
+
+public class GameSimulator {
+    private static final long GAMES_PER_TASK = 10_000;
+    private static final long MIN_GAME_COUNT = 1;
+    private static final long HALF = 2;
+
+    private final ForkJoinPool pool;
+
+    public GameSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GameSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SimulationResult simulate(long gameCount) {
+        return simulate(gameCount, new RandomGenerator());
+    }
+
+    public SimulationResult simulate(long gameCount, long seed) {
+        return simulate(gameCount, new RandomGenerator(seed));
+    }
+
+    public SimulationResult simulate(long gameCount, PointGenerator pointGenerator) {
+        if (gameCount < MIN_GAME_COUNT) {
+            throw new IllegalArgumentException(WARNING_SIMULATION_NON_POSITIVE_GAME_COUNT);
+        }
+        return pool.invoke(new SimulationTask(gameCount, pointGenerator));
+    }
+
+    private static class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long gameCount;
+        private final PointGenerator pointGenerator;
+
+        SimulationTask(long gameCount, PointGenerator pointGenerator) {
+            this.gameCount = gameCount;
+            this.pointGenerator = pointGenerator;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (gameCount <= GAMES_PER_TASK) {
+                return simulateSequentially();
+            }
+
+            SimulationTask left = new SimulationTask(gameCount / HALF, pointGenerator.split());
+            SimulationTask right = new SimulationTask(gameCount - gameCount / HALF, pointGenerator);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+
+        private SimulationResult simulateSequentially() {
+            SimulationResult result = new SimulationResult();
+
+            for (long i = 0; i < gameCount; i++) {
+                result.record(Frame.createTenFrames(pointGenerator));
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package bowling.domain.simulation;
+
+import bowling.domain.frame.Frame;
+import bowling.domain.frame.FrameResult;
+import bowling.domain.frame.Frames;
+
+import static bowling.Messages.WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE;
+
+public class SimulationResult {
+    private static final int MAX_SCORE = 300;
+    private static final int FRAME_ID_FINAL = 10;
+    private static final double PERCENTILE_MIN = 0;
+    private static final double PERCENTILE_MAX = 100;
+
+    private final long[] scoreCounts = new long[MAX_SCORE + 1];
+    private final long[] frameResultCounts = new long[FrameResult.values().length];
+    private long gameCount;
+    private long scoreSum;
+
+    public void record(Frames frames) {
+        int score = frames.getTotalPointUntil(FRAME_ID_FINAL);
+        scoreCounts[score]++;
+        scoreSum += score;
+        gameCount++;
+
+        for (Frame frame : frames.getFrames()) {
+            frameResultCounts[frame.getResult().ordinal()]++;
+        }
+    }
+
+    public SimulationResult merge(SimulationResult other) {
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            scoreCounts[score] += other.scoreCounts[score];
+        }
+
+        for (int i = 0; i < frameResultCounts.length; i++) {
+            frameResultCounts[i] += other.frameResultCounts[i];
+        }
+
+        gameCount += other.gameCount;
+        scoreSum += other.scoreSum;
+        return this;
+    }
+
+    public long getGameCount() {
+        return gameCount;
+    }
+
+    public long getScoreCount(int score) {
+        return scoreCounts[score];
+    }
+
+    public double getAverageScore() {
+        if (gameCount == 0) {
+            return 0;
+        }
+        return (double) scoreSum / gameCount;
+    }
+
+    public double getFrequency(FrameResult frameResult) {
+        if (gameCount == 0) {
+            return 0;
+        }
+        return (double) frameResultCounts[frameResult.ordinal()] / (gameCount * FRAME_ID_FINAL);
+    }
+
+    public int getMinScore() {
+        return getScoreAtPercentile(PERCENTILE_MIN);
+    }
+
+    public int getMaxScore() {
+        return getScoreAtPercentile(PERCENTILE_MAX);
+    }
+
+    public int getScoreAtPercentile(double percentile) {
+        if (percentile < PERCENTILE_MIN || percentile > PERCENTILE_MAX) {
+            throw new IllegalArgumentException(WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE);
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / PERCENTILE_MAX * gameCount));
+        long cumulativeCount = 0;
+
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            cumulativeCount += scoreCounts[score];
+            if (cumulativeCount >= rank) {
+                return score;
+            }
+        }
+
+        return 0;
+    }
+}
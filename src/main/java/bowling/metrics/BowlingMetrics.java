@@ -0,0 +1,138 @@
+package bowling.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+프로세스 전체에서 하나만 쓰는 지표 모음. register()로 플랫폼 MBean 서버에 "bowling:type=BowlingMetrics"로 등록하면
+jconsole 같은 JMX 클라이언트로 프로파일러 없이 볼 수 있다.
+ */
+public class BowlingMetrics implements BowlingMetricsMBean {
+    private static final String OBJECT_NAME = "bowling:type=BowlingMetrics";
+    private static final double MEDIAN = 50;
+    private static final double P99 = 99;
+    private static final BowlingMetrics INSTANCE = new BowlingMetrics();
+
+    private final LongAdder gamesGenerated = new LongAdder();
+    private final LongAdder rollsScored = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LatencyHistogram scoringTime = new LatencyHistogram();
+    private final LatencyHistogram renderTime = new LatencyHistogram();
+
+    private BowlingMetrics() {
+    }
+
+    public static BowlingMetrics get() {
+        return INSTANCE;
+    }
+
+    public static synchronized void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void recordGameGenerated() {
+        gamesGenerated.increment();
+    }
+
+    public void recordScoring(int rollCount, long nanos) {
+        rollsScored.add(rollCount);
+        scoringTime.record(nanos);
+    }
+
+    public void recordRollsScored(int rollCount) {
+        rollsScored.add(rollCount);
+    }
+
+    public void recordRender(long nanos) {
+        renderTime.record(nanos);
+    }
+
+    public void recordBytesWritten(int byteCount) {
+        bytesWritten.add(byteCount);
+    }
+
+    @Override
+    public long getGamesGenerated() {
+        return gamesGenerated.sum();
+    }
+
+    @Override
+    public long getRollsScored() {
+        return rollsScored.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public long getScoringCount() {
+        return scoringTime.getCount();
+    }
+
+    @Override
+    public double getScoringMeanNanos() {
+        return scoringTime.getMean();
+    }
+
+    @Override
+    public long getScoringP50Nanos() {
+        return scoringTime.getPercentile(MEDIAN);
+    }
+
+    @Override
+    public long getScoringP99Nanos() {
+        return scoringTime.getPercentile(P99);
+    }
+
+    @Override
+    public long getScoringMaxNanos() {
+        return scoringTime.getMax();
+    }
+
+    @Override
+    public long getRenderCount() {
+        return renderTime.getCount();
+    }
+
+    @Override
+    public double getRenderMeanNanos() {
+        return renderTime.getMean();
+    }
+
+    @Override
+    public long getRenderP50Nanos() {
+        return renderTime.getPercentile(MEDIAN);
+    }
+
+    @Override
+    public long getRenderP99Nanos() {
+        return renderTime.getPercentile(P99);
+    }
+
+    @Override
+    public long getRenderMaxNanos() {
+        return renderTime.getMax();
+    }
+
+    @Override
+    public void reset() {
+        gamesGenerated.reset();
+        rollsScored.reset();
+        bytesWritten.reset();
+        scoringTime.reset();
+        renderTime.reset();
+    }
+}
@@ -0,0 +1,31 @@
+package bowling.metrics;
+
+public interface BowlingMetricsMBean {
+    long getGamesGenerated();
+
+    long getRollsScored();
+
+    long getBytesWritten();
+
+    long getScoringCount();
+
+    double getScoringMeanNanos();
+
+    long getScoringP50Nanos();
+
+    long getScoringP99Nanos();
+
+    long getScoringMaxNanos();
+
+    long getRenderCount();
+
+    double getRenderMeanNanos();
+
+    long getRenderP50Nanos();
+
+    long getRenderP99Nanos();
+
+    long getRenderMaxNanos();
+
+    void reset();
+}
@@ -0,0 +1,88 @@
+package bowling.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static bowling.Messages.WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE;
+
+/*
+나노초 단위 소요 시간을 2의 거듭제곱 구간(버킷)으로 센다. 기록은 LongAdder 하나만 올리므로 여러 스레드가 동시에 기록해도 싸다.
+백분위는 해당 버킷의 상한을 돌려주므로 최대 2배까지 크게 나올 수 있다.
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = Long.SIZE;
+    private static final double PERCENTILE_MIN = 0;
+    private static final double PERCENTILE_MAX = 100;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[findBucket(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    private int findBucket(long value) {
+        return BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(value | 1);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getPercentile(double percentile) {
+        if (percentile < PERCENTILE_MIN || percentile > PERCENTILE_MAX) {
+            throw new IllegalArgumentException(WARNING_SIMULATION_NOT_ALLOWED_PERCENTILE);
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / PERCENTILE_MAX));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return Math.min(getMax(), upperBound(i));
+            }
+        }
+        return 0;
+    }
+
+    private long upperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,25 @@
+package bowling.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class MeteredOutputStream extends FilterOutputStream {
+    private static final int ONE_BYTE = 1;
+
+    public MeteredOutputStream(OutputStream outputStream) {
+        super(outputStream);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        BowlingMetrics.get().recordBytesWritten(ONE_BYTE);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        out.write(bytes, offset, length);
+        BowlingMetrics.get().recordBytesWritten(length);
+    }
+}
@@ -0,0 +1,196 @@
+package bowling.view;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static bowling.Messages.WARNING_ASYNCWRITER_ALREADY_CLOSED;
+
+/*
+쓰는 쪽은 내용을 조각(chunk)으로 모아 크기가 정해진 큐에 넘기기만 하고, 실제 쓰기는 전용 스레드가 한다.
+전용 스레드는 큐에 쌓인 조각을 한 번에 모두 꺼내 하나로 이어 쓰고, 그 사이 flush 요청이 있었으면 한 번만 flush한다.
+큐가 가득 차면 쓰는 쪽이 기다리므로 메모리는 큐 크기 이상 늘지 않는다.
+ */
+public class AsyncWriter extends Writer {
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final char[] FLUSH = new char[0];
+    private static final char[] CLOSE = new char[0];
+    private static final String THREAD_NAME = "bowling-async-writer";
+
+    private final Writer out;
+    private final BlockingQueue<char[]> queue;
+    private final Thread thread;
+    private final char[] chunk = new char[CHUNK_SIZE];
+    private int chunkLength;
+    private boolean closed;
+    private volatile IOException failure;
+
+    public AsyncWriter(Writer out) {
+        this(out, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public AsyncWriter(Writer out, int queueCapacity) {
+        this.out = out;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.thread = new Thread(this::drain, THREAD_NAME);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        checkOpen();
+        while (length > 0) {
+            int copied = Math.min(length, CHUNK_SIZE - chunkLength);
+            System.arraycopy(chars, offset, chunk, chunkLength, copied);
+            chunkLength += copied;
+            offset += copied;
+            length -= copied;
+
+            if (chunkLength == CHUNK_SIZE) {
+                handOffChunk();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        handOffChunk();
+        put(FLUSH);
+    }
+
+    /*
+    전용 스레드가 이미 실패했더라도 CLOSE를 보내고 끝날 때까지 기다려, 감싼 Writer가 항상 닫히게 한다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        boolean finished = false;
+        try {
+            if (failure == null) {
+                handOffChunk();
+            }
+            put(CLOSE);
+            thread.join();
+            finished = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            if (!finished) {
+                thread.interrupt();
+            }
+        }
+        checkFailure();
+    }
+
+    private void handOffChunk() throws IOException {
+        if (chunkLength == 0) {
+            return;
+        }
+        put(Arrays.copyOf(chunk, chunkLength));
+        chunkLength = 0;
+    }
+
+    private void put(char[] item) throws IOException {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new IOException(WARNING_ASYNCWRITER_ALREADY_CLOSED);
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void drain() {
+        try {
+            drainUntilClose();
+        } finally {
+            closeOut();
+        }
+    }
+
+    private void drainUntilClose() {
+        List<char[]> batch = new ArrayList<>();
+        char[] buffer = new char[CHUNK_SIZE];
+
+        while (true) {
+            batch.clear();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            boolean flushRequested = false;
+            boolean closeRequested = false;
+            int length = 0;
+            for (char[] item : batch) {
+                flushRequested |= (item == FLUSH);
+                closeRequested |= (item == CLOSE);
+                if (buffer.length < length + item.length) {
+                    buffer = Arrays.copyOf(buffer, Math.max(length + item.length, buffer.length * 2));
+                }
+                System.arraycopy(item, 0, buffer, length, item.length);
+                length += item.length;
+            }
+
+            writeBatch(buffer, length, flushRequested);
+            if (closeRequested) {
+                return;
+            }
+        }
+    }
+
+    /*
+    쓰기에 실패하면 이후 조각은 버리면서 큐를 계속 비워, 쓰는 쪽이 큐에서 영원히 기다리지 않게 한다. 실패는 다음 호출에서 던진다.
+     */
+    private void writeBatch(char[] buffer, int length, boolean flushRequested) {
+        if (failure != null) {
+            return;
+        }
+
+        try {
+            out.write(buffer, 0, length);
+            if (flushRequested) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void closeOut() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package bowling.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static bowling.view.PrintFormat.SCORE_BOX;
+
+public class BoardDiff {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String ESCAPE = "\u001B[";
+    private static final String CURSOR_UP = "A";
+    private static final String CURSOR_FORWARD = "C";
+    private static final String CLEAR_TO_END_OF_LINE = "K";
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char NEW_LINE = '\n';
+    private static final int TURN_LINE_INDEX = 0;
+    private static final int OFFSET = 1;
+    private static final int NARROW_WIDTH = 1;
+    private static final int WIDE_WIDTH = 2;
+
+    private List<String> previousLines = new ArrayList<>();
+
+    /*
+    board의 내용을 이전 board와 달라진 부분만 출력하도록 바꿔 쓴다.
+    빈 줄은 비교하지 않고, 첫 board는 그대로 출력한다.
+     */
+    public void rewrite(StringBuilder board, RenderMode renderMode) {
+        List<String> lines = splitLines(board);
+        board.setLength(0);
+
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        if (lines.size() != previousLines.size()) {
+            appendAll(board, lines);
+        } else if (renderMode == RenderMode.ANSI) {
+            appendChangedCells(board, lines);
+        } else {
+            appendChangedLines(board, lines);
+        }
+
+        previousLines = lines;
+    }
+
+    private List<String> splitLines(StringBuilder board) {
+        List<String> lines = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i < board.length(); i++) {
+            if (board.charAt(i) == NEW_LINE) {
+                addIfNotBlank(lines, board, start, i);
+                start = i + OFFSET;
+            }
+        }
+        addIfNotBlank(lines, board, start, board.length());
+
+        return lines;
+    }
+
+    private void addIfNotBlank(List<String> lines, StringBuilder board, int start, int end) {
+        if (end > start && board.charAt(end - OFFSET) == CARRIAGE_RETURN) {
+            end--;
+        }
+
+        if (end > start) {
+            lines.add(board.substring(start, end));
+        }
+    }
+
+    private void appendAll(StringBuilder board, List<String> lines) {
+        for (String line : lines) {
+            board.append(line).append(LINE_SEPARATOR);
+        }
+    }
+
+    private void appendChangedLines(StringBuilder board, List<String> lines) {
+        board.append(lines.get(TURN_LINE_INDEX)).append(LINE_SEPARATOR);
+
+        for (int i = TURN_LINE_INDEX + OFFSET; i < lines.size(); i++) {
+            if (lines.get(i).equals(previousLines.get(i))) {
+                continue;
+            }
+
+            if (isScoreLine(lines.get(i)) && lines.get(i - OFFSET).equals(previousLines.get(i - OFFSET))) {
+                board.append(lines.get(i - OFFSET)).append(LINE_SEPARATOR);
+            }
+
+            board.append(lines.get(i)).append(LINE_SEPARATOR);
+        }
+    }
+
+    private void appendChangedCells(StringBuilder board, List<String> lines) {
+        board.append(ESCAPE).append(lines.size()).append(CURSOR_UP);
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            String previousLine = previousLines.get(i);
+
+            if (!line.equals(previousLine)) {
+                int changedIndex = findFirstChangedIndex(line, previousLine);
+                board.append(CARRIAGE_RETURN);
+                appendCursorForward(board, displayWidth(line, changedIndex));
+                board.append(line, changedIndex, line.length())
+                        .append(ESCAPE).append(CLEAR_TO_END_OF_LINE);
+            }
+
+            board.append(LINE_SEPARATOR);
+        }
+    }
+
+    private boolean isScoreLine(String line) {
+        return line.startsWith(SCORE_BOX);
+    }
+
+    private int findFirstChangedIndex(String line, String previousLine) {
+        int length = Math.min(line.length(), previousLine.length());
+
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(i) != previousLine.charAt(i)) {
+                return i;
+            }
+        }
+
+        return length;
+    }
+
+    private void appendCursorForward(StringBuilder board, int columns) {
+        if (columns > 0) {
+            board.append(ESCAPE).append(columns).append(CURSOR_FORWARD);
+        }
+    }
+
+    /*
+    한글은 터미널에서 두 칸을 차지하므로, 커서 위치를 계산할 때 두 칸으로 센다.
+     */
+    private int displayWidth(String line, int endIndex) {
+        int width = 0;
+
+        for (int i = 0; i < endIndex; i++) {
+            width += isWide(line.charAt(i)) ? WIDE_WIDTH : NARROW_WIDTH;
+        }
+
+        return width;
+    }
+
+    private boolean isWide(char c) {
+        Character.UnicodeBlock block = Character.UnicodeBlock.of(c);
+        return block == Character.UnicodeBlock.HANGUL_SYLLABLES
+                || block == Character.UnicodeBlock.HANGUL_JAMO
+                || block == Character.UnicodeBlock.HANGUL_COMPATIBILITY_JAMO;
+    }
+}
@@ -0,0 +1,26 @@
+package bowling.view;
+
+public class CellFormat {
+    private static final String PLACEHOLDER = "%s";
+
+    private final String prefix;
+    private final String suffix;
+
+    private CellFormat(String prefix, String suffix) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    public static CellFormat of(String format) {
+        int index = format.indexOf(PLACEHOLDER);
+        return new CellFormat(format.substring(0, index), format.substring(index + PLACEHOLDER.length()));
+    }
+
+    public StringBuilder appendTo(StringBuilder builder, String value) {
+        return builder.append(prefix).append(value).append(suffix);
+    }
+
+    public StringBuilder appendTo(StringBuilder builder, int value) {
+        return builder.append(prefix).append(value).append(suffix);
+    }
+}
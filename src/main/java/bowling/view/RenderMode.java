@@ -0,0 +1,7 @@
+package bowling.view;
+
+public enum RenderMode {
+    FULL,
+    LINE,
+    ANSI
+}
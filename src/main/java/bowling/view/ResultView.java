@@ -3,7 +3,14 @@ package bowling.view;
 import bowling.domain.frame.Frame;
 import bowling.domain.result.GameResult;
 import bowling.domain.result.GameResults;
-
+import bowling.metrics.BowlingMetrics;
+import bowling.metrics.MeteredOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.stream.IntStream;
 
 import static bowling.domain.frame.FrameResult.*;
@@ -22,18 +29,59 @@ public class ResultView {
     private static final int STRIKE_POINT = 10;
     private static final int THREE_DIGITS_MIN = 100;
     private static final int TWO_DIGITS_MIN = 10;
+    private static final int INITIAL_BOARD_CAPACITY = 4096;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String TURN = "'s turn : ";
+    private static final CellFormat NAME_CELL = CellFormat.of(NAME);
+    private static final CellFormat SCORE_CELL = CellFormat.of(SCORE);
+    private static final CellFormat FIRST_SCORE_CELL = CellFormat.of(FIRST_SCORE);
+    private static final CellFormat THIRD_SCORE_CELL = CellFormat.of(THIRD_SCORE);
+    private static final CellFormat SCORE_ONE_DIGIT_CELL = CellFormat.of(SCORE_ONE_DIGIT);
+    private static final CellFormat SCORE_TWO_DIGIT_CELL = CellFormat.of(SCORE_TWO_DIGIT);
+    private static final CellFormat SCORE_THREE_DIGIT_CELL = CellFormat.of(SCORE_THREE_DIGIT);
+
+    private final Writer writer;
+    private final RenderMode renderMode;
+    private final BoardDiff boardDiff = new BoardDiff();
+    private final StringBuilder board = new StringBuilder(INITIAL_BOARD_CAPACITY);
+    private char[] chars = new char[INITIAL_BOARD_CAPACITY];
+    private long boardStartedAt;
+
+    public ResultView(Writer writer) {
+        this(writer, RenderMode.FULL);
+    }
+
+    public ResultView(Writer writer, RenderMode renderMode) {
+        this.writer = writer;
+        this.renderMode = renderMode;
+    }
+
+    public ResultView(OutputStream outputStream) {
+        this(outputStream, RenderMode.FULL);
+    }
+
+    public ResultView(OutputStream outputStream, RenderMode renderMode) {
+        this(new OutputStreamWriter(new MeteredOutputStream(outputStream)), renderMode);
+    }
 
     public static void print(GameResults gameResults) {
-        System.out.println();
+        new ResultView(System.out).render(gameResults);
+    }
+
+    public void render(GameResults gameResults) {
+        boardStartedAt = System.nanoTime();
+        appendLine();
         printResult(gameResults);
+        flushBoard();
+        flushGame();
     }
 
-    private static void printResult(GameResults gameResults) {
+    private void printResult(GameResults gameResults) {
         IntStream.rangeClosed(FRAME_ID_FIRST, FRAME_ID_FINAL)
                 .forEach(frameId -> printOneFrame(gameResults, frameId));
     }
 
-    private static void printOneFrame(GameResults gameResults, int frameId) {
+    private void printOneFrame(GameResults gameResults, int frameId) {
         if (frameId == FRAME_ID_FIRST) {
             printFirstFrame(gameResults, frameId);
         }
@@ -51,10 +99,10 @@ public class ResultView {
         }
     }
 
-    private static void printFirstFrame(GameResults gameResults, int frameId) {
+    private void printFirstFrame(GameResults gameResults, int frameId) {
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getFirstPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getFirstPoint());
             printBowlingFrame();
             for (int j = 0; j < gameResults.getSize(); j++) {
                 if (i >= j) {
@@ -67,12 +115,12 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
 
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getSecondPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getSecondPoint());
             printBowlingFrame();
             for (int j = 0; j < gameResults.getSize(); j++) {
                 if (i >= j) {
@@ -86,14 +134,14 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printSecondFrame(GameResults gameResults, int frameId) {
+    private void printSecondFrame(GameResults gameResults, int frameId) {
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_SECOND).getFirstPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_SECOND).getFirstPoint());
             printBowlingFrame();
             for (int j = 0; j < gameResults.getSize(); j++) {
                 if (i >= j) {
@@ -108,12 +156,12 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
 
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getSecondPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getSecondPoint());
             printBowlingFrame();
             for (int j = 0; j < gameResults.getSize(); j++) {
                 if (i >= j) {
@@ -128,14 +176,14 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printNormalFrame(GameResults gameResults, int frameId) {
+    private void printNormalFrame(GameResults gameResults, int frameId) {
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getFirstPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getFirstPoint());
             printBowlingFrame();
             for (int j = 0; j < gameResults.getSize(); j++) {
                 if (i >= j) {
@@ -154,12 +202,12 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
 
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getSecondPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(frameId).getSecondPoint());
             printBowlingFrame();
             for (int j = 0; j < gameResults.getSize(); j++) {
                 if (i >= j) {
@@ -174,81 +222,76 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
 
-    private static void printName(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printName(GameResult gameResult) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printFirstFrameSecond(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
-        name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(FRAME_ID_FIRST))));
+    private void printFirstFrameSecond(GameResult gameResult) {
+        NAME_CELL.appendTo(board, gameResult.getName());
+        SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(FRAME_ID_FIRST)));
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printFirstFrameFirst(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printFirstFrameFirst(GameResult gameResult) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
         if (gameResult.getFrameByFrameId(FRAME_ID_FIRST).getFirstPoint() == STRIKE_POINT) {
-            name.append(String.format(FIRST_SCORE, "X"));
+            FIRST_SCORE_CELL.appendTo(board, "X");
         }
 
         if (gameResult.getFrameByFrameId(FRAME_ID_FIRST).getFirstPoint() != STRIKE_POINT) {
-            name.append(String.format(FIRST_SCORE, gameResult.getFrameByFrameId(FRAME_ID_FIRST).getFirstPoint()));
+            FIRST_SCORE_CELL.appendTo(board, gameResult.getFrameByFrameId(FRAME_ID_FIRST).getFirstPoint());
         }
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printNormalFrameFirst(GameResult gameResult, int frameId) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printNormalFrameFirst(GameResult gameResult, int frameId) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
         for (int i = FRAME_ID_FIRST; i < frameId; i++) {
-            name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(i))));
+            SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(i)));
         }
 
         if (gameResult.getFrameByFrameId(frameId).getFirstPoint() == STRIKE_POINT) {
-            name.append(String.format(FIRST_SCORE, "X"));
+            FIRST_SCORE_CELL.appendTo(board, "X");
         }
 
         if (gameResult.getFrameByFrameId(frameId).getFirstPoint() != STRIKE_POINT) {
-            name.append(String.format(FIRST_SCORE, gameResult.getFrameByFrameId(frameId).getFirstPoint()));
+            FIRST_SCORE_CELL.appendTo(board, gameResult.getFrameByFrameId(frameId).getFirstPoint());
         }
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printNormalFrameSecond(GameResult gameResult, int frameId) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printNormalFrameSecond(GameResult gameResult, int frameId) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
         for (int i = FRAME_ID_FIRST; i < frameId; i++) {
-            name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(i))));
+            SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(i)));
         }
-        name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(frameId))));
-        System.out.println(name.toString());
-        System.out.println();
+        SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(frameId)));
+        appendLine();
+        appendLine();
     }
 
-    private static void printFinalFrame(GameResults gameResults) {
+    private void printFinalFrame(GameResults gameResults) {
         //first
         for (int i = 0; i < gameResults.getSize(); i++) {
-            System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-            System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getFirstPoint());
+            startBoard(gameResults.getResultByIndex(i));
+            appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getFirstPoint());
             printBowlingFrame();
 
             for (int j = 0; j < gameResults.getSize(); j++) {
@@ -265,14 +308,14 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
 
         //second (첫 투구가 Strike가 아닐 때만 출력)
         for (int i = 0; i < gameResults.getSize(); i++) {
             if (!gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).isResult(STRIKE)) {
-                System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-                System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getSecondPoint());
+                startBoard(gameResults.getResultByIndex(i));
+                appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getSecondPoint());
                 printBowlingFrame();
 
                 for (int j = 0; j < gameResults.getSize(); j++) {
@@ -289,15 +332,15 @@ public class ResultView {
             }
         }
 
-        System.out.println();
-        System.out.println();
+        appendLine();
+        appendLine();
 
         //third
         for (int i = 0; i < gameResults.getSize(); i++) {
             if (gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).containsOrdinal(THIRD)) {
                 if (gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).isResult(STRIKE)) {
-                    System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-                    System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint());
+                    startBoard(gameResults.getResultByIndex(i));
+                    appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint());
                     printBowlingFrame();
 
                     for (int j = 0; j < gameResults.getSize(); j++) {
@@ -337,8 +380,8 @@ public class ResultView {
                 }
 
                 if (gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).isResult(SPARE)) {
-                    System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-                    System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint());
+                    startBoard(gameResults.getResultByIndex(i));
+                    appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint());
                     printBowlingFrame();
 
                     for (int j = 0; j < gameResults.getSize(); j++) {
@@ -374,7 +417,8 @@ public class ResultView {
                 }
 
                 if (gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).isGutterOrMiss()) {
-                    System.out.println(gameResults.getResultByIndex(i).getName() + "'s turn : -");
+                    startBoard(gameResults.getResultByIndex(i));
+                    appendLine("-");
                     printBowlingFrame();
 
                     for (int j = 0; j < gameResults.getSize(); j++) {
@@ -389,8 +433,8 @@ public class ResultView {
         for (int i = 0; i < gameResults.getSize(); i++) {
             if (gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).containsOrdinal(FOURTH)) {
                 if (gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).isResult(STRIKE)) {
-                    System.out.print(gameResults.getResultByIndex(i).getName() + "'s turn : ");
-                    System.out.println(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getFourthPoint());
+                    startBoard(gameResults.getResultByIndex(i));
+                    appendLine(gameResults.getResultByIndex(i).getFrameByFrameId(FRAME_ID_FINAL).getFourthPoint());
                     printBowlingFrame();
 
                     for (int j = 0; j < gameResults.getSize(); j++) {
@@ -432,61 +476,56 @@ public class ResultView {
         }
     }
 
-    private static void printFinalFrameWhenStrikeThird(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printFinalFrameWhenStrikeThird(GameResult gameResult) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
         for (int i = FRAME_ID_FIRST; i < FRAME_ID_FINAL; i++) {
-            name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(i))));
+            SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(i)));
         }
-        name.append(String.format(SCORE, "X|" + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint()));
+        SCORE_CELL.appendTo(board, "X|" + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint());
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printFinalFrameWhenSpareThird(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printFinalFrameWhenSpareThird(GameResult gameResult) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
         for (int i = FRAME_ID_FIRST; i < FRAME_ID_FINAL; i++) {
-            name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(i))));
+            SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(i)));
         }
-        name.append(String.format(THIRD_SCORE,
-                gameResult.getFrameByFrameId(FRAME_ID_FINAL).getFirstPoint()
-                        + "|/|"
-                        + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint()));
+        THIRD_SCORE_CELL.appendTo(board, gameResult.getFrameByFrameId(FRAME_ID_FINAL).getFirstPoint()
+                + "|/|"
+                + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint());
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printFinalFrameWhenStrikeFourth(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(String.format(NAME, gameResult.getName()));
+    private void printFinalFrameWhenStrikeFourth(GameResult gameResult) {
+        NAME_CELL.appendTo(board, gameResult.getName());
 
         for (int i = FRAME_ID_FIRST; i < FRAME_ID_FINAL; i++) {
-            name.append(String.format(SCORE, getScore(gameResult.getFrameByFrameId(i))));
+            SCORE_CELL.appendTo(board, getScore(gameResult.getFrameByFrameId(i)));
         }
-        name.append(String.format(THIRD_SCORE, "X|"
+        THIRD_SCORE_CELL.appendTo(board, "X|"
                 + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getThirdPoint()
                 + "|"
-                + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getFourthPoint()));
+                + gameResult.getFrameByFrameId(FRAME_ID_FINAL).getFourthPoint());
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printScoreFirst(GameResult gameResult) {
-        StringBuilder name = new StringBuilder();
-        name.append(SCORE_BOX);
-        name.append(String.format(SCORE_ONE_DIGIT, getScoreUntil(gameResult, FRAME_ID_FIRST)));
+    private void printScoreFirst(GameResult gameResult) {
+        board.append(SCORE_BOX);
+        SCORE_ONE_DIGIT_CELL.appendTo(board, getScoreUntil(gameResult, FRAME_ID_FIRST));
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
     }
 
-    private static void printFirstFrameScoreAtSecond(GameResult gameResult) {
+    private void printFirstFrameScoreAtSecond(GameResult gameResult) {
         Frame frame = gameResult.getFrameByFrameId(FRAME_ID_FIRST);
 
         if (frame.isResult(STRIKE) || frame.isResult(SPARE)) {
@@ -498,7 +537,7 @@ public class ResultView {
         }
     }
 
-    private static void printSecondFrameScoreAtFirst(GameResult gameResult) {
+    private void printSecondFrameScoreAtFirst(GameResult gameResult) {
         Frame prevFrame = gameResult.getFrameByFrameId(FRAME_ID_FIRST);
 
         if (prevFrame.isResult(STRIKE)) {
@@ -510,7 +549,7 @@ public class ResultView {
         }
     }
 
-    private static void printSecondFrameScoreAtSecond(GameResult gameResult, int frameId) {
+    private void printSecondFrameScoreAtSecond(GameResult gameResult, int frameId) {
         Frame frame = gameResult.getFrameByFrameId(frameId);
         Frame prevFrame = gameResult.getFrameByFrameId(FRAME_ID_FIRST);
 
@@ -530,7 +569,7 @@ public class ResultView {
         }
     }
 
-    private static void printScoreAtFirst(GameResult gameResult, int frameId) {
+    private void printScoreAtFirst(GameResult gameResult, int frameId) {
         Frame prevFrame = gameResult.getFrameByFrameId(frameId + OFFSET);
 
         if (prevFrame.isResult(STRIKE)) {
@@ -546,7 +585,7 @@ public class ResultView {
         }
     }
 
-    private static void printScoreAtSecond(GameResult gameResult, int frameId) {
+    private void printScoreAtSecond(GameResult gameResult, int frameId) {
         Frame frame = gameResult.getFrameByFrameId(frameId);
         Frame prevFrame = gameResult.getFrameByFrameId(frameId + OFFSET);
 
@@ -566,47 +605,100 @@ public class ResultView {
         }
     }
 
-    private static void printScoreUntil(GameResult gameResult, int frameId) {
-        StringBuilder name = new StringBuilder();
-        name.append(SCORE_BOX);
+    private void printScoreUntil(GameResult gameResult, int frameId) {
+        board.append(SCORE_BOX);
 
         for (int i = FRAME_ID_FIRST; i <= frameId; i++) {
             if (getScoreUntil(gameResult, i) >= THREE_DIGITS_MIN) {
-                name.append(String.format(SCORE_THREE_DIGIT, getScoreUntil(gameResult, i)));
+                SCORE_THREE_DIGIT_CELL.appendTo(board, getScoreUntil(gameResult, i));
             }
 
             if (getScoreUntil(gameResult, i) >= TWO_DIGITS_MIN && getScoreUntil(gameResult, i) < THREE_DIGITS_MIN) {
-                name.append(String.format(SCORE_TWO_DIGIT, getScoreUntil(gameResult, i)));
+                SCORE_TWO_DIGIT_CELL.appendTo(board, getScoreUntil(gameResult, i));
             }
 
             if (getScoreUntil(gameResult, i) < TWO_DIGITS_MIN) {
-                name.append(String.format(SCORE_ONE_DIGIT, getScoreUntil(gameResult, i)));
+                SCORE_ONE_DIGIT_CELL.appendTo(board, getScoreUntil(gameResult, i));
             }
         }
 
-        System.out.println(name.toString());
-        System.out.println();
+        appendLine();
+        appendLine();
+    }
+
+    private void printScoreBlank() {
+        board.append(SCORE_BOX);
+
+        appendLine();
+        appendLine();
+    }
+
+    private void startBoard(GameResult gameResult) {
+        flushBoard();
+        board.append(gameResult.getName()).append(TURN);
     }
 
-    private static void printScoreBlank() {
-        StringBuilder name = new StringBuilder();
-        name.append(SCORE_BOX);
+    private void appendLine(String line) {
+        board.append(line).append(LINE_SEPARATOR);
+    }
+
+    private void appendLine(int point) {
+        board.append(point).append(LINE_SEPARATOR);
+    }
+
+    private void appendLine() {
+        board.append(LINE_SEPARATOR);
+    }
+
+    /*
+    보드마다 내보내지 않고 게임이 끝날 때 한 번만 flush한다. AsyncWriter를 쓰면 이 flush가 게임 경계가 된다.
+     */
+    private void flushGame() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+    보드 한 장(한 투구의 출력)을 모아 두었다가 한 번의 write로 내보낸다.
+     */
+    private void flushBoard() {
+        if (renderMode != RenderMode.FULL) {
+            boardDiff.rewrite(board, renderMode);
+        }
+
+        int length = board.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+
+        board.getChars(0, length, chars, 0);
+        board.setLength(0);
+
+        try {
+            writer.write(chars, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
-        System.out.println(name.toString());
-        System.out.println();
+        long now = System.nanoTime();
+        BowlingMetrics.get().recordRender(now - boardStartedAt);
+        boardStartedAt = now;
     }
 
-    private static int getScoreUntil(GameResult gameResult, int frameId) {
+    private int getScoreUntil(GameResult gameResult, int frameId) {
         return gameResult.getScoreUntilFrame(frameId);
     }
 
-    private static void printBowlingFrame() {
-        System.out.println(BOWLING_BORDER);
-        System.out.println(BOWLING_FRAME);
-        System.out.println(BOWLING_BORDER);
+    private void printBowlingFrame() {
+        appendLine(BOWLING_BORDER);
+        appendLine(BOWLING_FRAME);
+        appendLine(BOWLING_BORDER);
     }
 
-    private static String getScore(Frame frame) {
+    private String getScore(Frame frame) {
         if (frame.isResult(STRIKE)) {
             return " X ";
         }
@@ -58,6 +58,10 @@ public class Answer extends AbstractEntity {
         return writer;
     }
 
+    public String getContents() {
+        return contents;
+    }
+
     public void toQuestion(Question question) {
         this.question = question;
     }
@@ -68,18 +72,18 @@ public class Answer extends AbstractEntity {
     }
 
     public DeleteHistory delete(User loginUser) throws CannotDeleteException {
-        validateCanDelete(loginUser);
+        DeleteHistory deleteHistory = toDeleteHistory(getId(), writer, loginUser);
         this.deleted = true;
-        return DeleteHistory.of(ContentType.ANSWER, getId(), writer, LocalDateTime.now());
+        return deleteHistory;
     }
 
-    private void validateCanDelete(User loginUser) throws CannotDeleteException {
-        if (!isWriter(loginUser)) {
+    /*
+    엔티티를 읽지 않고 한꺼번에 지우는 AnswerWriter도 같은 권한 규칙과 DeleteHistory를 쓴다.
+     */
+    static DeleteHistory toDeleteHistory(Long answerId, User writer, User loginUser) throws CannotDeleteException {
+        if (!writer.equalsNameAndEmail(loginUser)) {
             throw new CannotDeleteException("다른 사람이 쓴 답변이 있어 삭제할 수 없습니다.");
         }
-    }
-
-    private boolean isWriter(User loginUser) {
-        return this.writer.equalsNameAndEmail(loginUser);
+        return DeleteHistory.of(ContentType.ANSWER, answerId, writer, LocalDateTime.now());
     }
 }
@@ -1,8 +1,12 @@
 package qna.domain.qna.answer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import qna.domain.qna.question.Question;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +14,17 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByQuestionAndDeletedFalse(Question question);
 
     Optional<Answer> findByIdAndDeletedFalse(Long id);
+
+    @Query("select new qna.domain.qna.answer.AnswerWriter(a.id, w) from Answer a join a.writer w " +
+            "where a.question.id = :questionId and a.deleted = false order by a.id")
+    List<AnswerWriter> findAnswerWritersByQuestionId(@Param("questionId") Long questionId);
+
+    /*
+    id 목록을 IN으로 넘기지 않고, 권한을 확인한 답변 중 가장 큰 id까지로 범위를 정한다. 그 뒤에 달린 답변은 지우지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Answer a set a.deleted = true, a.updatedAt = :updatedAt " +
+            "where a.question.id = :questionId and a.deleted = false and a.id <= :maxAnswerId")
+    int softDeleteByQuestionId(@Param("questionId") Long questionId, @Param("maxAnswerId") Long maxAnswerId,
+                               @Param("updatedAt") LocalDateTime updatedAt);
 }
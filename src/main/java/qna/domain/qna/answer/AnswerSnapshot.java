@@ -0,0 +1,41 @@
+package qna.domain.qna.answer;
+
+import qna.domain.user.User;
+
+/*
+캐시에 두고 여러 요청이 함께 읽도록, 답변을 엔티티가 아닌 바뀌지 않는 값으로 옮겨 둔다.
+ */
+public class AnswerSnapshot {
+    private final Long id;
+    private final String writerUserId;
+    private final String writerName;
+    private final String contents;
+
+    private AnswerSnapshot(Long id, String writerUserId, String writerName, String contents) {
+        this.id = id;
+        this.writerUserId = writerUserId;
+        this.writerName = writerName;
+        this.contents = contents;
+    }
+
+    public static AnswerSnapshot of(Answer answer) {
+        User writer = answer.getWriter();
+        return new AnswerSnapshot(answer.getId(), writer.getUserId(), writer.getName(), answer.getContents());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getWriterUserId() {
+        return writerUserId;
+    }
+
+    public String getWriterName() {
+        return writerName;
+    }
+
+    public String getContents() {
+        return contents;
+    }
+}
@@ -0,0 +1,26 @@
+package qna.domain.qna.answer;
+
+import qna.CannotDeleteException;
+import qna.domain.deletehistory.DeleteHistory;
+import qna.domain.user.User;
+
+/*
+답변을 엔티티로 읽지 않고 한꺼번에 지울 때, 권한 확인과 DeleteHistory에 필요한 id와 작성자만 담는다.
+ */
+public class AnswerWriter {
+    private final Long answerId;
+    private final User writer;
+
+    public AnswerWriter(Long answerId, User writer) {
+        this.answerId = answerId;
+        this.writer = writer;
+    }
+
+    public Long getAnswerId() {
+        return answerId;
+    }
+
+    public DeleteHistory toDeleteHistory(User loginUser) throws CannotDeleteException {
+        return Answer.toDeleteHistory(answerId, writer, loginUser);
+    }
+}
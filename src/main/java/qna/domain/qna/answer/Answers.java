@@ -1,5 +1,6 @@
 package qna.domain.qna.answer;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.Where;
 import qna.CannotDeleteException;
 import qna.domain.deletehistory.DeleteHistory;
@@ -15,8 +16,11 @@ import java.util.List;
 
 @Embeddable
 public class Answers {
+    private static final int ANSWERS_BATCH_SIZE = 100;
+
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL)
     @Where(clause = "deleted = false")
+    @BatchSize(size = ANSWERS_BATCH_SIZE)
     @OrderBy("id ASC")
     private List<Answer> answers = new ArrayList<>();
 
@@ -39,9 +43,10 @@ public class Answers {
         return deleteHistories;
     }
 
-    public Answers add(Answer answer){
-        List<Answer> newAnswers = new ArrayList<>(answers);
-        newAnswers.add(answer);
-        return new Answers(newAnswers);
+    /*
+    목록을 새로 만들지 않고 Hibernate가 관리하는 컬렉션에 그대로 덧붙인다. 밖에는 getAnswers의 읽기 전용 목록만 내보낸다.
+     */
+    public void add(Answer answer) {
+        answers.add(answer);
     }
 }
\ No newline at end of file
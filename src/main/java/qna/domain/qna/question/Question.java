@@ -4,12 +4,14 @@ import qna.CannotDeleteException;
 import qna.domain.deletehistory.DeleteHistory;
 import qna.domain.qna.AbstractEntity;
 import qna.domain.qna.answer.Answer;
+import qna.domain.qna.answer.AnswerWriter;
 import qna.domain.qna.answer.Answers;
 import qna.domain.qna.ContentType;
 import qna.domain.user.User;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Entity
@@ -43,10 +45,22 @@ public class Question extends AbstractEntity {
         this.contents = contents;
     }
 
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContents() {
+        return contents;
+    }
+
     public User getWriter() {
         return writer;
     }
 
+    public List<Answer> getAnswers() {
+        return answers.getAnswers();
+    }
+
     public Question writeBy(User loginUser) {
         this.writer = loginUser;
         return this;
@@ -54,7 +68,7 @@ public class Question extends AbstractEntity {
 
     public void addAnswer(Answer answer) {
         answer.toQuestion(this);
-        answers = answers.add(answer);
+        answers.add(answer);
     }
 
     public boolean isDeleted() {
@@ -73,6 +87,19 @@ public class Question extends AbstractEntity {
         return deleteHistories;
     }
 
+    /*
+    답변은 엔티티를 읽지 않고 AnswerWriter로 권한만 확인한다. deleted는 저장소의 일괄 UPDATE가 바꾼다.
+     */
+    public List<DeleteHistory> delete(User loginUser, List<AnswerWriter> answerWriters) throws CannotDeleteException {
+        validateCanDelete(loginUser);
+        List<DeleteHistory> deleteHistories = new ArrayList<>();
+        for (AnswerWriter answerWriter : answerWriters) {
+            deleteHistories.add(answerWriter.toDeleteHistory(loginUser));
+        }
+        deleteHistories.add(deleteQuestion(loginUser));
+        return deleteHistories;
+    }
+
     private DeleteHistory deleteQuestion(User loginUser) {
         this.deleted = true;
         return DeleteHistory.of(ContentType.QUESTION, getId(), writer, LocalDateTime.now());
@@ -1,6 +1,8 @@
 package qna.domain.qna.question;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +11,12 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByDeletedFalse();
 
     Optional<Question> findByIdAndDeletedFalse(Long id);
+
+    /*
+    질문, 삭제되지 않은 답변, 질문과 답변의 작성자를 한 번의 조회로 읽는다. 답변 수와 관계없이 쿼리 수가 같다.
+     */
+    @Query("select distinct q from Question q left join fetch q.writer " +
+            "left join fetch q.answers.answers a left join fetch a.writer " +
+            "where q.id = :id and q.deleted = false")
+    Optional<Question> findWithAnswersByIdAndDeletedFalse(@Param("id") Long id);
 }
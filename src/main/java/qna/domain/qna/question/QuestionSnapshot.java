@@ -0,0 +1,66 @@
+package qna.domain.qna.question;
+
+import qna.domain.qna.answer.AnswerSnapshot;
+import qna.domain.user.User;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+화면에 보여 줄 질문, 답변과 작성자를 바뀌지 않는 값으로 옮겨 둔다. 캐시된 값을 고쳐도 다른 요청이나 DB에 영향을 주지 않는다.
+ */
+public class QuestionSnapshot {
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String writerUserId;
+    private final String writerName;
+    private final List<AnswerSnapshot> answers;
+
+    private QuestionSnapshot(Long id, String title, String contents, String writerUserId, String writerName,
+                             List<AnswerSnapshot> answers) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.writerUserId = writerUserId;
+        this.writerName = writerName;
+        this.answers = Collections.unmodifiableList(answers);
+    }
+
+    public static QuestionSnapshot of(Question question) {
+        User writer = question.getWriter();
+        List<AnswerSnapshot> answers = question.getAnswers().stream()
+                .map(AnswerSnapshot::of)
+                .collect(Collectors.toList());
+        if (writer == null) {
+            return new QuestionSnapshot(question.getId(), question.getTitle(), question.getContents(), null, null, answers);
+        }
+        return new QuestionSnapshot(question.getId(), question.getTitle(), question.getContents(),
+                writer.getUserId(), writer.getName(), answers);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContents() {
+        return contents;
+    }
+
+    public String getWriterUserId() {
+        return writerUserId;
+    }
+
+    public String getWriterName() {
+        return writerName;
+    }
+
+    public List<AnswerSnapshot> getAnswers() {
+        return answers;
+    }
+}
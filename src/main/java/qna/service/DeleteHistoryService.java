@@ -1,7 +1,6 @@
 package qna.service;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import qna.domain.deletehistory.DeleteHistory;
 import qna.domain.deletehistory.DeleteHistoryRepository;
@@ -9,18 +8,22 @@ import qna.domain.deletehistory.DeleteHistoryRepository;
 import javax.annotation.Resource;
 import java.util.List;
 
+/*
+삭제한 트랜잭션 안에서 함께 저장한다. 커넥션을 하나 더 잡지 않고, 삭제가 커밋되면 기록도 반드시 남는다.
+id를 시퀀스에서 미리 받아 두므로 INSERT는 커밋할 때 JDBC 배치로 묶인다.
+ */
 @Service("deleteHistoryService")
 public class DeleteHistoryService {
     @Resource(name = "deleteHistoryRepository")
     private DeleteHistoryRepository deleteHistoryRepository;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void saveAll(List<DeleteHistory> deleteHistories) {
         deleteHistoryRepository.saveAll(deleteHistories);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void save(DeleteHistory deleteHistory) {
         deleteHistoryRepository.save(deleteHistory);
     }
-}
\ No newline at end of file
+}
@@ -6,12 +6,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import qna.CannotDeleteException;
 import qna.NotFoundException;
+import qna.domain.deletehistory.DeleteHistory;
 import qna.domain.qna.answer.AnswerRepository;
+import qna.domain.qna.answer.AnswerWriter;
 import qna.domain.qna.question.Question;
 import qna.domain.qna.question.QuestionRepository;
+import qna.domain.qna.question.QuestionSnapshot;
 import qna.domain.user.User;
 
 import javax.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service("qnaService")
 public class QnAService {
@@ -26,15 +31,62 @@ public class QnAService {
     @Resource(name = "deleteHistoryService")
     private DeleteHistoryService deleteHistoryService;
 
+    @Resource(name = "questionCache")
+    private QuestionCache questionCache;
+
     @Transactional(readOnly = true)
     public Question findQuestionById(Long id) {
-        return questionRepository.findByIdAndDeletedFalse(id)
+        return loadQuestion(id);
+    }
+
+    /*
+    화면에 보여 주기만 하는 조회는 엔티티 대신 바뀌지 않는 스냅숏을 캐시에서 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public QuestionSnapshot findQuestionSnapshotById(Long id) {
+        return questionCache.get(id, key -> QuestionSnapshot.of(loadQuestion(key)));
+    }
+
+    /*
+    답변과 작성자까지 한 번에 읽어 두어, 스냅숏을 만들 때 지연 로딩이 일어나지 않는다.
+     */
+    private Question loadQuestion(Long id) {
+        return questionRepository.findWithAnswersByIdAndDeletedFalse(id)
                 .orElseThrow(NotFoundException::new);
     }
 
     @Transactional
     public void deleteQuestion(User loginUser, long questionId) throws CannotDeleteException {
-        Question question = findQuestionById(questionId);
+        Question question = loadQuestion(questionId);
         deleteHistoryService.saveAll(question.delete(loginUser));
+        questionCache.evictAfterCommit(questionId);
+    }
+
+    /*
+    답변이 많은 질문은 답변마다 UPDATE하지 않고, 작성자를 한 번에 읽어 권한을 확인한 뒤 한 번의 UPDATE로 지운다.
+     */
+    @Transactional
+    public void deleteQuestionInBulk(User loginUser, long questionId) throws CannotDeleteException {
+        Question question = questionRepository.findByIdAndDeletedFalse(questionId)
+                .orElseThrow(NotFoundException::new);
+        List<AnswerWriter> answerWriters = answerRepository.findAnswerWritersByQuestionId(questionId);
+        List<DeleteHistory> deleteHistories = question.delete(loginUser, answerWriters);
+
+        if (!answerWriters.isEmpty()) {
+            softDeleteAnswers(questionId, answerWriters);
+        }
+        deleteHistoryService.saveAll(deleteHistories);
+        questionCache.evictAfterCommit(questionId);
+    }
+
+    /*
+    권한을 확인한 뒤 답변이 지워지거나 더 달렸다면 지운 수가 달라지므로, 예외로 트랜잭션을 되돌린다.
+     */
+    private void softDeleteAnswers(long questionId, List<AnswerWriter> answerWriters) {
+        Long maxAnswerId = answerWriters.get(answerWriters.size() - 1).getAnswerId();
+        int deletedCount = answerRepository.softDeleteByQuestionId(questionId, maxAnswerId, LocalDateTime.now());
+        if (deletedCount != answerWriters.size()) {
+            throw new IllegalStateException("삭제하는 동안 답변이 바뀌었습니다. 다시 시도해 주세요.");
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package qna.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import qna.domain.qna.question.QuestionSnapshot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/*
+자주 읽히는 질문의 스냅숏을 MAX_SIZE개까지, TTL 동안 메모리에 둔다.
+적중은 락 없이 ConcurrentHashMap에서 읽고 마지막으로 읽은 시각만 기록한다. 가득 차면 새로 넣을 때 가장 오래 읽히지 않은 질문을 밀어낸다.
+삭제가 커밋되면 evictAfterCommit으로 지우고, 그 사이 읽던 쪽이 삭제 전 질문을 다시 넣지 못하게 id별 버전을 확인한다.
+ */
+@Component("questionCache")
+public class QuestionCache {
+    private static final int MAX_SIZE = 1000;
+    private static final long TTL_MILLIS = 60_000L;
+    private static final int VERSION_STRIPES = 64;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, CachedQuestion> entries = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /*
+    지운 id마다 버전을 남기면 끝없이 늘어나므로, id를 VERSION_STRIPES개의 칸에 나누어 칸별 버전을 둔다.
+    한 질문을 지워도 같은 칸의 질문만 잠시 캐시에 넣지 못한다.
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public QuestionCache() {
+        this(MAX_SIZE, TTL_MILLIS, System::nanoTime);
+    }
+
+    QuestionCache(int maxSize, long ttlMillis, LongSupplier nanoClock) {
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    public QuestionSnapshot get(Long id, Function<Long, QuestionSnapshot> loader) {
+        long now = nanoClock.getAsLong();
+        CachedQuestion cachedQuestion = entries.get(id);
+        if (cachedQuestion != null && !cachedQuestion.isExpired(now)) {
+            cachedQuestion.lastAccessedAt = now;
+            hitCount.increment();
+            return cachedQuestion.snapshot;
+        }
+
+        missCount.increment();
+        long versionBeforeLoad = versions.get(stripe(id));
+        QuestionSnapshot snapshot = loader.apply(id);
+
+        long loadedAt = nanoClock.getAsLong();
+        entries.compute(id, (key, old) -> versions.get(stripe(key)) == versionBeforeLoad
+                ? new CachedQuestion(snapshot, loadedAt, loadedAt + ttlNanos) : old);
+        evictLeastRecentlyUsed();
+        return snapshot;
+    }
+
+    /*
+    버전 증가와 제거를 같은 키의 compute 안에서 하므로, 읽어 온 값을 넣는 compute와 엇갈리지 않는다.
+     */
+    public void evict(Long id) {
+        entries.compute(id, (key, old) -> {
+            versions.incrementAndGet(stripe(key));
+            return null;
+        });
+    }
+
+    /*
+    커밋 전에 지우면 커밋 전까지 다른 쪽이 삭제 전 질문을 다시 넣을 수 있으므로, 트랜잭션이 끝날 때 한 번 더 지운다.
+     */
+    public void evictAfterCommit(Long id) {
+        evict(id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(id);
+            }
+        });
+    }
+
+    /*
+    새로 넣을 때만 전체를 한 번 훑는다. 캐시 실패는 이미 DB를 다녀왔으므로 MAX_SIZE 정도의 순회는 부담이 작다.
+     */
+    private void evictLeastRecentlyUsed() {
+        while (entries.size() > maxSize) {
+            Map.Entry<Long, CachedQuestion> eldest = null;
+            for (Map.Entry<Long, CachedQuestion> entry : entries.entrySet()) {
+                if (eldest == null || entry.getValue().lastAccessedAt - eldest.getValue().lastAccessedAt < 0) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private static int stripe(Long id) {
+        return (Long.hashCode(id) & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private static class CachedQuestion {
+        private final QuestionSnapshot snapshot;
+        private final long expiresAt;
+        private volatile long lastAccessedAt;
+
+        CachedQuestion(QuestionSnapshot snapshot, long lastAccessedAt, long expiresAt) {
+            this.snapshot = snapshot;
+            this.lastAccessedAt = lastAccessedAt;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package bowling;
+
+import bowling.domain.PlayerName;
+import bowling.domain.PlayerNameSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlayerNameSetTest {
+
+    @DisplayName("대소문자만 다른 이름은 중복으로 본다.")
+    @Test
+    void addIgnoringCase() {
+        //given
+        PlayerNameSet playerNameSet = new PlayerNameSet(2);
+
+        //when
+        boolean first = playerNameSet.add(PlayerName.of("PJS"));
+        boolean second = playerNameSet.add(PlayerName.of("pjs"));
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(playerNameSet.contains(PlayerName.of("Pjs"))).isTrue();
+        assertThat(playerNameSet.size()).isEqualTo(1);
+    }
+
+    @DisplayName("예상보다 많이 넣어도 모든 이름을 담는다.")
+    @Test
+    void growWhenFull() {
+        //given
+        PlayerNameSet playerNameSet = new PlayerNameSet(1);
+
+        //when
+        for (int code = 0; code < PlayerName.CODE_COUNT; code++) {
+            playerNameSet.add(PlayerName.of(toName(code)));
+        }
+
+        //then
+        assertThat(playerNameSet.size()).isEqualTo(PlayerName.CODE_COUNT);
+        assertThat(playerNameSet.add(PlayerName.of("zzz"))).isFalse();
+    }
+
+    private String toName(int code) {
+        char[] name = new char[3];
+        for (int i = 2; i >= 0; i--) {
+            name[i] = (char) ('A' + code % 26);
+            code /= 26;
+        }
+        return new String(name);
+    }
+}
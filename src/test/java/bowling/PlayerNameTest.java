@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
@@ -31,10 +32,34 @@ public class PlayerNameTest {
 
     @DisplayName("플레이어 이름이 영문이 아니면 예외 발생")
     @ParameterizedTest
-    @ValueSource(strings = {"@@@", "123", "홍홍홍"})
+    @ValueSource(strings = {"@@@", "123", "홍홍홍", "A1b", "Éab"})
     void throwExceptionWhenNotEnglishName(String name) {
         assertThatIllegalArgumentException().isThrownBy(() -> {
             new PlayerName(name);
         });
     }
-}
\ No newline at end of file
+
+    @DisplayName("같은 이름은 같은 인스턴스를 돌려주고, 대소문자만 다른 이름은 코드가 같다.")
+    @Test
+    void internAndEncode() {
+        //given
+        PlayerName upperCase = PlayerName.of("ABC");
+
+        //when
+        PlayerName lowerCase = PlayerName.of("abc");
+
+        //then
+        assertThat(PlayerName.of("ABC")).isSameAs(upperCase);
+        assertThat(lowerCase).isNotEqualTo(upperCase);
+        assertThat(lowerCase.getCode()).isEqualTo(upperCase.getCode()).isEqualTo(28);
+        assertThat(PlayerName.of("ZZZ").getCode()).isEqualTo(PlayerName.CODE_COUNT - 1);
+        assertThat(new PlayerName("ABC")).isEqualTo(upperCase);
+    }
+
+    @DisplayName("코드로 대문자 이름을 만들고, 범위를 벗어난 코드는 예외 발생")
+    @Test
+    void ofCode() {
+        assertThat(PlayerName.ofCode(28)).isSameAs(PlayerName.of("ABC"));
+        assertThatIllegalArgumentException().isThrownBy(() -> PlayerName.ofCode(PlayerName.CODE_COUNT));
+    }
+}
@@ -1,6 +1,9 @@
 package bowling;
 
+import bowling.domain.PointGenerator;
 import bowling.domain.RandomGenerator;
+import bowling.domain.frame.Frame;
+import bowling.domain.frame.Frames;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -56,4 +59,54 @@ public class RandomGeneratorTest {
                         randomGenerator.getThirdPointForStrike() + randomGenerator.getFourthPointForStrike())
                         .isLessThanOrEqualTo(10));
     }
-}
\ No newline at end of file
+
+    @DisplayName("같은 seed로 생성한 RandomGenerator는 같은 순서의 포인트를 발생시킨다.")
+    @Test
+    void generateSamePointsWithSameSeed() {
+        RandomGenerator randomGenerator = new RandomGenerator(2020L);
+        RandomGenerator otherGenerator = new RandomGenerator(2020L);
+
+        IntStream.range(0, 1000)
+                .forEach(it -> assertThat(randomGenerator.getFirstPoint()).isEqualTo(otherGenerator.getFirstPoint()));
+    }
+
+    @DisplayName("같은 seed로 split한 RandomGenerator도 같은 순서의 포인트를 발생시킨다.")
+    @Test
+    void generateSamePointsWithSplitGenerator() {
+        PointGenerator splitGenerator = new RandomGenerator(2020L).split();
+        PointGenerator otherSplitGenerator = new RandomGenerator(2020L).split();
+
+        IntStream.range(0, 1000)
+                .forEach(it -> assertThat(splitGenerator.getThirdPoint())
+                        .isEqualTo(otherSplitGenerator.getThirdPoint()));
+    }
+
+    @DisplayName("fillGame은 같은 seed로 생성한 10개 frame과 같은 포인트를 채운다.")
+    @Test
+    void fillGameWithSamePointsAsFrames() {
+        //given
+        byte[] buffer = new byte[PointGenerator.POINTS_PER_GAME];
+        Frames frames = Frame.createTenFrames(new RandomGenerator(7L));
+
+        //when
+        new RandomGenerator(7L).fillGame(buffer, 0);
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            Frame frame = frames.getFrames().get(i);
+            assertThat(buffer[i * 2]).isEqualTo((byte) frame.getFirstPoint());
+            assertThat(buffer[i * 2 + 1]).isEqualTo((byte) frame.getSecondPoint());
+        }
+        Frame finalFrame = frames.getFrames().get(9);
+        assertThat(buffer[20] + buffer[21] + finalFrame.getFirstPoint() + finalFrame.getSecondPoint())
+                .isEqualTo(finalFrame.getPointSumOnlyThisFrame());
+    }
+
+    @DisplayName("여러 스레드에서 동시에 frame을 생성해도 두 포인트의 합은 10 이하이다.")
+    @Test
+    void generateFramesConcurrently() {
+        IntStream.range(0, 10_000)
+                .parallel()
+                .forEach(it -> assertThat(Frame.create().getPointSumOnlyThisFrame()).isLessThanOrEqualTo(10));
+    }
+}
@@ -0,0 +1,169 @@
+package bowling.archive;
+
+import bowling.domain.PlayerName;
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import bowling.domain.frame.BatchScorer;
+import bowling.domain.result.GameResult;
+import bowling.domain.result.GameResults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class GameLogTest {
+    private static final int GAME_COUNT = 1_000;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("기록한 게임을 다시 읽으면 이름과 프레임별 점수가 같다.")
+    @Test
+    void replaySameAsWritten() {
+        //given
+        Path path = directory.resolve("games.log");
+        GameResults gameResults = GameResults.createWithPlayerNames(
+                Arrays.asList(PlayerName.of("PJS"), PlayerName.of("KSY")), new RandomGenerator(2020L));
+
+        //when
+        try (GameLogWriter writer = GameLogWriter.open(path)) {
+            writer.append(gameResults);
+        }
+
+        //then
+        try (GameLogReader reader = GameLogReader.open(path)) {
+            assertThat(reader.getGameCount()).isEqualTo(2);
+            for (int index = 0; index < 2; index++) {
+                GameResult expected = gameResults.getResultByIndex(index);
+                GameResult actual = reader.getGameResult(index);
+                assertThat(actual.getPlayerName()).isEqualTo(expected.getPlayerName());
+                for (int frameId = 1; frameId <= 10; frameId++) {
+                    assertThat(actual.getScoreUntilFrame(frameId)).isEqualTo(expected.getScoreUntilFrame(frameId));
+                }
+            }
+        }
+    }
+
+    @DisplayName("한 레코드는 이름과 포인트를 합쳐 17바이트를 차지한다.")
+    @Test
+    void recordSize() throws IOException {
+        //given
+        Path path = directory.resolve("games.log");
+        byte[] points = createPoints(GAME_COUNT);
+
+        //when
+        writeGames(path, points, GAME_COUNT);
+
+        //then
+        assertThat(Files.size(path)).isEqualTo(8 + 17L * GAME_COUNT);
+    }
+
+    @DisplayName("여러 게임을 한 번에 읽어 채점한 결과는 기록 전의 점수와 같다.")
+    @Test
+    void readPointsForBatchScorer() {
+        //given
+        Path path = directory.resolve("games.log");
+        byte[] points = createPoints(GAME_COUNT);
+        writeGames(path, points, GAME_COUNT);
+        byte[] replayed = new byte[points.length];
+        int[] expected = new int[GAME_COUNT];
+        int[] actual = new int[GAME_COUNT];
+
+        //when
+        try (GameLogReader reader = GameLogReader.open(path)) {
+            reader.readPoints(0, GAME_COUNT, replayed);
+        }
+        BatchScorer.score(points, GAME_COUNT, expected);
+        BatchScorer.score(replayed, GAME_COUNT, actual);
+
+        //then
+        assertThat(replayed).isEqualTo(points);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @DisplayName("이미 있는 파일을 다시 열면 끝에 이어서 기록하고, 끊긴 레코드는 버린다.")
+    @Test
+    void appendAfterTruncatingPartialRecord() throws IOException {
+        //given
+        Path path = directory.resolve("games.log");
+        byte[] points = createPoints(2);
+        writeGames(path, points, 1);
+        try (FileChannel channel = FileChannel.open(path, WRITE)) {
+            channel.truncate(Files.size(path) - 5);
+        }
+
+        //when
+        writeGames(path, points, 2);
+
+        //then
+        try (GameLogReader reader = GameLogReader.open(path)) {
+            byte[] replayed = new byte[PointGenerator.POINTS_PER_GAME];
+            reader.readPoints(1, replayed, 0);
+            assertThat(reader.getGameCount()).isEqualTo(2);
+            assertThat(replayed).isEqualTo(Arrays.copyOfRange(points, PointGenerator.POINTS_PER_GAME, points.length));
+        }
+    }
+
+    @DisplayName("모든 게임을 순서대로 읽는다.")
+    @Test
+    void forEach() {
+        //given
+        Path path = directory.resolve("games.log");
+        byte[] points = createPoints(GAME_COUNT);
+        writeGames(path, points, GAME_COUNT);
+        long[] count = new long[1];
+
+        //when
+        try (GameLogReader reader = GameLogReader.open(path)) {
+            reader.forEach((index, replayed) -> {
+                int offset = (int) index * PointGenerator.POINTS_PER_GAME;
+                assertThat(replayed).isEqualTo(Arrays.copyOfRange(points, offset, offset + PointGenerator.POINTS_PER_GAME));
+                count[0]++;
+            });
+        }
+
+        //then
+        assertThat(count[0]).isEqualTo(GAME_COUNT);
+    }
+
+    @DisplayName("게임 기록 형식이 아닌 파일을 열거나, 없는 게임 번호를 읽으면 예외 발생")
+    @Test
+    void throwExceptionWhenNotAllowedFormatOrIndex() throws IOException {
+        Path wrongFile = Files.write(directory.resolve("wrong.log"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        Path path = directory.resolve("games.log");
+        writeGames(path, createPoints(1), 1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> GameLogReader.open(wrongFile));
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            try (GameLogReader reader = GameLogReader.open(path)) {
+                reader.getPlayerName(1);
+            }
+        });
+    }
+
+    private byte[] createPoints(int gameCount) {
+        PointGenerator pointGenerator = new RandomGenerator(2020L);
+        byte[] points = new byte[gameCount * PointGenerator.POINTS_PER_GAME];
+        for (int game = 0; game < gameCount; game++) {
+            pointGenerator.fillGame(points, game * PointGenerator.POINTS_PER_GAME);
+        }
+        return points;
+    }
+
+    private void writeGames(Path path, byte[] points, int gameCount) {
+        try (GameLogWriter writer = GameLogWriter.open(path)) {
+            for (int game = 0; game < gameCount; game++) {
+                writer.append(PlayerName.of("PJS"), points, game * PointGenerator.POINTS_PER_GAME);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package bowling.archive;
+
+import bowling.domain.result.PlayerTotal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RollImporterTest {
+    private static final String PERFECT_GAME = "10 10 10 10 10 10 10 10 10 10 10 0";
+    private static final String ALL_ONES = "1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1";
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("플레이어별로 게임 수, 점수 합계, 최고 점수를 낸다.")
+    @Test
+    void importPlayerTotals() throws IOException {
+        //given
+        Path input = Files.write(directory.resolve("rolls.txt"), Arrays.asList(
+                "PJS " + PERFECT_GAME,
+                "KSY " + ALL_ONES,
+                "PJS\t" + ALL_ONES + "\r"));
+        StringWriter output = new StringWriter();
+
+        //when
+        ImportResult result = new RollImporter().importRolls(input, output);
+
+        //then
+        PlayerTotal total = result.getPlayerTotal("PJS");
+        assertThat(result.getGameCount()).isEqualTo(3);
+        assertThat(total.getGameCount()).isEqualTo(2);
+        assertThat(total.getScoreSum()).isEqualTo(310);
+        assertThat(total.getBestScore()).isEqualTo(290);
+        assertThat(output.toString().split(System.lineSeparator())).containsExactly("KSY 1 20 20", "PJS 2 310 290");
+    }
+
+    @DisplayName("잘못된 줄은 줄 번호와 함께 남기고 나머지 줄은 계속 읽는다.")
+    @Test
+    void reportErrorsWithLineNumber() throws IOException {
+        //given
+        char[] tooLong = new char[300];
+        Arrays.fill(tooLong, '1');
+        Path input = Files.write(directory.resolve("rolls.txt"), Arrays.asList(
+                "PJS " + PERFECT_GAME,
+                "PJSS " + ALL_ONES,
+                "",
+                "KSY 10 10 x",
+                "KSY " + ALL_ONES + " 1",
+                new String(tooLong),
+                "KSY " + ALL_ONES));
+
+        //when
+        ImportResult result = new RollImporter().importRolls(input);
+
+        //then
+        assertThat(result.getGameCount()).isEqualTo(2);
+        assertThat(result.getErrorCount()).isEqualTo(4);
+        assertThat(result.getErrors().stream().map(ImportError::getLineNumber).collect(toList()))
+                .containsExactly(2L, 4L, 5L, 6L);
+    }
+
+    @DisplayName("채점을 여러 스레드에 나누어 맡겨도 합계는 같다.")
+    @Test
+    void importInParallel() throws IOException {
+        //given
+        String[] names = {"PJS", "KSY", "LEE"};
+        Path input = directory.resolve("rolls.txt");
+        Files.write(input, IntStream.range(0, 30_000)
+                .mapToObj(i -> names[i % names.length] + " " + (i % 2 == 0 ? PERFECT_GAME : ALL_ONES))
+                .collect(toList()));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        ImportResult result = new RollImporter(executor, 2).importRolls(input);
+        executor.shutdown();
+
+        //then
+        assertThat(result.getGameCount()).isEqualTo(30_000);
+        assertThat(result.getPlayerTotals().stream().mapToLong(PlayerTotal::getScoreSum).sum())
+                .isEqualTo(15_000L * 290 + 15_000L * 20);
+        assertThat(result.getPlayerTotal("LEE").getGameCount()).isEqualTo(10_000);
+    }
+}
@@ -0,0 +1,138 @@
+package bowling.controller;
+
+import bowling.archive.GameLogReader;
+import bowling.domain.PlayerName;
+import bowling.domain.RandomGenerator;
+import bowling.domain.result.GameResults;
+import bowling.view.RenderMode;
+import bowling.view.ResultView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BatchGameTest {
+    private static final List<PlayerName> PLAYER_NAMES = Arrays.asList(PlayerName.of("AAA"), PlayerName.of("AAB"));
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("보드 형식은 같은 시드로 ResultView가 그린 결과와 같다.")
+    @Test
+    void runBoardFormat() throws IOException {
+        //given
+        Path output = directory.resolve("result.txt");
+
+        //when
+        BatchGame.run(BatchOptions.parse(new String[]{
+                "--players", "2", "--seed", "42", "--games", "3", "--output", output.toString()}));
+
+        //then
+        StringWriter expected = new StringWriter();
+        ResultView resultView = new ResultView(expected, RenderMode.FULL);
+        RandomGenerator randomGenerator = new RandomGenerator(42L);
+        for (int game = 0; game < 3; game++) {
+            resultView.render(GameResults.createWithPlayerNames(PLAYER_NAMES, randomGenerator));
+        }
+        assertThat(new String(Files.readAllBytes(output), UTF_8)).isEqualTo(expected.toString());
+    }
+
+    @DisplayName("scores 형식은 게임 번호, 이름, 점수를 한 줄씩 쓴다.")
+    @Test
+    void runScoresFormat() throws IOException {
+        //given
+        Path names = Files.write(directory.resolve("names.txt"), Arrays.asList("AAA", "", "AAB"));
+        Path output = directory.resolve("scores.txt");
+
+        //when
+        BatchGame.run(BatchOptions.parse(new String[]{
+                "--names", names.toString(), "--seed", "42", "--games", "2", "--format", "scores",
+                "--output", output.toString()}));
+
+        //then
+        RandomGenerator randomGenerator = new RandomGenerator(42L);
+        List<String> expected = new ArrayList<>();
+        for (int game = 1; game <= 2; game++) {
+            GameResults gameResults = GameResults.createWithPlayerNames(PLAYER_NAMES, randomGenerator);
+            expected.add(game + " AAA " + gameResults.getResultByIndex(0).getScoreUntilFrame(10));
+            expected.add(game + " AAB " + gameResults.getResultByIndex(1).getScoreUntilFrame(10));
+        }
+        assertThat(Files.readAllLines(output)).isEqualTo(expected);
+    }
+
+    @DisplayName("log 형식은 게임 기록 파일로 쓴다.")
+    @Test
+    void runLogFormat() {
+        //given
+        Path output = directory.resolve("games.log");
+
+        //when
+        BatchGame.run(BatchOptions.parse(new String[]{
+                "--players", "3", "--games", "10", "--format", "log", "--output", output.toString()}));
+
+        //then
+        try (GameLogReader reader = GameLogReader.open(output)) {
+            assertThat(reader.getGameCount()).isEqualTo(30);
+            assertThat(reader.getPlayerName(2)).isEqualTo(PlayerName.of("AAC"));
+        }
+    }
+
+    @DisplayName("이름 파일을 읽을 수 없으면 예외 발생")
+    @Test
+    void throwExceptionWhenNamesNotReadable() {
+        //given
+        BatchOptions options = BatchOptions.parse(new String[]{"--names", directory.resolve("none.txt").toString()});
+
+        //then
+        assertThatIllegalArgumentException().isThrownBy(options::getPlayerNames);
+    }
+
+    @DisplayName("이름 파일에 중복된 이름이 있거나, 이름이 하나도 없으면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "AAA\nBBB\nAAA\n",
+            "AAA\nBBB\naaa\n",
+            "",
+            "\n   \n\n"
+    })
+    void throwExceptionWhenNamesNotAllowed(String contents) throws IOException {
+        //given
+        Path names = Files.write(directory.resolve("names.txt"), contents.getBytes(UTF_8));
+        BatchOptions options = BatchOptions.parse(new String[]{"--names", names.toString()});
+
+        //then
+        assertThatIllegalArgumentException().isThrownBy(options::getPlayerNames)
+                .withMessageStartingWith("이름 파일에");
+    }
+
+    @DisplayName("플레이어를 지정하지 않았거나, 잘못된 옵션이면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "--games 3",
+            "--players 2 --names names.txt",
+            "--players 0",
+            "--players 2 --games x",
+            "--players 2 --format html",
+            "--players 2 --format log",
+            "--players 2 --color red",
+            "--players 17577",
+            "--players 4294967297",
+            "--players"
+    })
+    void throwExceptionWhenNotAllowedOptions(String args) {
+        assertThatIllegalArgumentException().isThrownBy(() -> BatchOptions.parse(args.split(" ")));
+    }
+}
@@ -0,0 +1,102 @@
+package bowling.controller;
+
+import bowling.domain.PlayerName;
+import bowling.domain.RandomGenerator;
+import bowling.domain.result.GameResults;
+import bowling.view.RenderMode;
+import bowling.view.ResultView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LaneSchedulerTest {
+    private static final List<PlayerName> PLAYER_NAMES = Arrays.asList(PlayerName.of("PJS"), PlayerName.of("KSY"));
+
+    @DisplayName("레인마다 자기 시드로 만든 게임을 순서대로 출력한다.")
+    @Test
+    void runLanes() {
+        //given
+        List<Lane> lanes = new ArrayList<>();
+        List<StringWriter> outputs = new ArrayList<>();
+        for (int laneNumber = 1; laneNumber <= 40; laneNumber++) {
+            StringWriter output = new StringWriter();
+            outputs.add(output);
+            lanes.add(Lane.of(laneNumber, PLAYER_NAMES, 3, laneNumber, output));
+        }
+
+        //when
+        List<LaneResult> laneResults;
+        try (LaneScheduler laneScheduler = new LaneScheduler(4, 2)) {
+            laneResults = laneScheduler.run(lanes);
+        }
+
+        //then
+        for (int laneNumber = 1; laneNumber <= 40; laneNumber++) {
+            assertThat(outputs.get(laneNumber - 1).toString()).isEqualTo(renderSequentially(laneNumber, 3));
+            assertThat(laneResults.get(laneNumber - 1).getPlayerTotal("PJS").getGameCount()).isEqualTo(3);
+        }
+    }
+
+    @DisplayName("출력이 막힌 레인은 대기열만큼만 앞서 가고, 다른 레인은 계속 진행한다.")
+    @Test
+    void slowLaneDoesNotStallOthers() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger blockedWrites = new AtomicInteger();
+        Writer blockedWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                blockedWrites.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        StringWriter output = new StringWriter();
+
+        try (LaneScheduler laneScheduler = new LaneScheduler(1, 2)) {
+            //when
+            CompletableFuture<LaneResult> slowLane = laneScheduler.submit(Lane.of(1, PLAYER_NAMES, 100, 1L, blockedWriter));
+            LaneResult fastLane = laneScheduler.submit(Lane.of(2, PLAYER_NAMES, 100, 2L, output)).get(10, TimeUnit.SECONDS);
+
+            //then
+            assertThat(slowLane.isDone()).isFalse();
+            assertThat(fastLane.getPlayerTotal("KSY").getGameCount()).isEqualTo(100);
+            assertThat(output.toString()).isEqualTo(renderSequentially(2, 100));
+
+            release.countDown();
+            assertThat(slowLane.get(10, TimeUnit.SECONDS).getPlayerTotal("KSY").getGameCount()).isEqualTo(100);
+        }
+    }
+
+    private String renderSequentially(long seed, int gameCount) {
+        StringWriter output = new StringWriter();
+        ResultView resultView = new ResultView(output, RenderMode.FULL);
+        RandomGenerator randomGenerator = new RandomGenerator(seed);
+        for (int game = 0; game < gameCount; game++) {
+            resultView.render(GameResults.createWithPlayerNames(PLAYER_NAMES, randomGenerator));
+        }
+        return output.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package bowling.domain.frame;
+
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class BatchScorerTest {
+    private static final int GAME_COUNT = 10_000;
+
+    @DisplayName("여러 게임의 포인트를 한 번에 채점한 결과는 Frames의 프레임별 합계와 같다.")
+    @Test
+    void scoreFramesSameAsFrames() {
+        //given
+        byte[] points = createPoints(2020L);
+        RandomGenerator randomGenerator = new RandomGenerator(2020L);
+        int[] frameTotalPoints = new int[GAME_COUNT * 10];
+        int[] totalPoints = new int[GAME_COUNT];
+
+        //when
+        BatchScorer.scoreFrames(points, GAME_COUNT, frameTotalPoints);
+        BatchScorer.score(points, GAME_COUNT, totalPoints);
+
+        //then
+        for (int game = 0; game < GAME_COUNT; game++) {
+            Frames frames = Frame.createTenFrames(randomGenerator);
+            for (int frameId = 1; frameId <= 10; frameId++) {
+                assertThat(frameTotalPoints[game * 10 + frameId - 1]).isEqualTo(frames.getTotalPointUntil(frameId));
+            }
+            assertThat(totalPoints[game]).isEqualTo(frames.getTotalPointUntil(10));
+        }
+    }
+
+    @DisplayName("퍼펙트 게임은 이 규칙에서 290점이다.")
+    @Test
+    void scorePerfectGame() {
+        //given
+        byte[] points = new byte[PointGenerator.POINTS_PER_GAME];
+        for (int i = 0; i < 10; i++) {
+            points[i * 2] = 10;
+        }
+        points[PointGenerator.INDEX_FINAL_THIRD] = 10;
+        int[] totalPoints = new int[1];
+
+        //when
+        BatchScorer.score(points, 1, totalPoints);
+
+        //then
+        assertThat(totalPoints[0]).isEqualTo(290);
+    }
+
+    @DisplayName("출력 배열이 게임 수보다 작으면 예외 발생")
+    @Test
+    void throwExceptionWhenOutputIsTooSmall() {
+        byte[] points = createPoints(1L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            BatchScorer.score(points, GAME_COUNT, new int[GAME_COUNT - 1]);
+        });
+    }
+
+    @DisplayName("게임 수와 한 게임 길이의 곱이 int를 넘쳐도 배열 길이를 제대로 검사해 예외 발생")
+    @Test
+    void throwExceptionWhenRequiredLengthOverflows() {
+        byte[] points = createPoints(1L);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            BatchScorer.scoreFrames(points, 1 << 30, new int[GAME_COUNT * PointGenerator.FRAME_COUNT]);
+        });
+    }
+
+    private byte[] createPoints(long seed) {
+        RandomGenerator randomGenerator = new RandomGenerator(seed);
+        byte[] points = new byte[GAME_COUNT * PointGenerator.POINTS_PER_GAME];
+        for (int game = 0; game < GAME_COUNT; game++) {
+            randomGenerator.fillGame(points, game * PointGenerator.POINTS_PER_GAME);
+        }
+        return points;
+    }
+}
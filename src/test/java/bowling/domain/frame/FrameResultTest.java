@@ -49,4 +49,27 @@ public class FrameResultTest {
         //then
         assertThat(result).isEqualTo(FrameResult.MISS);
     }
-}
\ No newline at end of file
+
+    @DisplayName("0 이상 10 이하의 모든 포인트 조합에 대해 규칙에 맞는 결과를 반환")
+    @Test
+    void findFrameResultForAllPointPairs() {
+        for (int first = 0; first <= 10; first++) {
+            for (int second = 0; first + second <= 10; second++) {
+                assertThat(FrameResult.findResult(first, second)).isEqualTo(expectedResult(first, second));
+            }
+        }
+    }
+
+    private FrameResult expectedResult(int first, int second) {
+        if (first == 10) {
+            return FrameResult.STRIKE;
+        }
+        if (first + second == 10) {
+            return FrameResult.SPARE;
+        }
+        if (first + second == 0) {
+            return FrameResult.GUTTER;
+        }
+        return FrameResult.MISS;
+    }
+}
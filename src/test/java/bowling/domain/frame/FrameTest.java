@@ -2,6 +2,7 @@ package bowling.domain.frame;
 
 import bowling.domain.frame.Frame;
 import bowling.domain.frame.Frames;
+import bowling.domain.point.Points;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -137,4 +138,21 @@ public class FrameTest {
         assertThat(missFrame.isResult(MISS)).isTrue();
         assertThat(gutterFrame.isResult(GUTTER)).isTrue();
     }
-}
\ No newline at end of file
+
+    @DisplayName("팩토리로 만든 Frame은 프레임 번호와 포인트 모양이 같으면 같은 인스턴스를 공유한다.")
+    @Test
+    void shareCanonicalFrame() {
+        //given
+        Frame frame = Frame.of(0, Points.of(7, 2));
+
+        //when
+        Frame sameFrame = Frame.of(0, Points.of(7, 2));
+        Frame nextFrame = Frame.of(1, Points.of(7, 2));
+
+        //then
+        assertThat(sameFrame).isSameAs(frame);
+        assertThat(nextFrame).isNotSameAs(frame);
+        assertThat(nextFrame.getFrameId()).isEqualTo(2);
+        assertThat(Frame.of(9, Points.of(new int[]{10, 0, 10, 0}))).isSameAs(Frame.of(9, Points.of(new int[]{10, 0, 10, 0})));
+    }
+}
@@ -148,6 +148,25 @@ public class FramesTest {
         assertThat(total).isEqualTo(35);
     }
 
+    @DisplayName("프레임별 합계는 순서와 상관없이 여러 번 조회해도 프레임 점수의 누적합과 같다.")
+    @Test
+    void returnSameTotalPointWhenCalledRepeatedly() {
+        //given
+        Frames frames = Frame.createTenFrames();
+
+        //when
+        int total = frames.getTotalPointUntil(10);
+
+        //then
+        int expected = 0;
+        for (int frameId = 1; frameId <= 10; frameId++) {
+            expected += frames.getFrameScore(frameId);
+            assertThat(frames.getTotalPointUntil(frameId)).isEqualTo(expected);
+        }
+        assertThat(frames.getTotalPointUntil(10)).isEqualTo(total);
+        assertThat(frames.getTotalPointUntil(0)).isZero();
+    }
+
     private List<Frame> createTenFramesWithOneFrame(Frame frame) {
         List<Frame> frames = new ArrayList<>();
         IntStream.range(0, 10)
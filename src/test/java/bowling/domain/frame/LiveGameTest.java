@@ -0,0 +1,127 @@
+package bowling.domain.frame;
+
+import bowling.domain.RandomGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static bowling.domain.point.Ordinal.FOURTH;
+import static bowling.domain.point.Ordinal.THIRD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LiveGameTest {
+    @DisplayName("한 투구씩 입력한 게임의 프레임별 합계는 Frames의 합계와 같다.")
+    @Test
+    void returnSameTotalPointAsFrames() {
+        RandomGenerator randomGenerator = new RandomGenerator(2020L);
+
+        IntStream.range(0, 1000).forEach(it -> {
+            //given
+            Frames frames = Frame.createTenFrames(randomGenerator);
+            LiveGame liveGame = new LiveGame();
+
+            //when
+            toPins(frames).forEach(liveGame::roll);
+
+            //then
+            assertThat(liveGame.isFinished()).isTrue();
+            for (int frameId = 1; frameId <= 10; frameId++) {
+                assertThat(liveGame.getTotalPointUntil(frameId)).isEqualTo(frames.getTotalPointUntil(frameId));
+            }
+        });
+    }
+
+    @DisplayName("스트라이크 프레임은 다음 두 투구가 끝난 뒤에 점수가 확정된다.")
+    @Test
+    void scoreStrikeAfterTwoMoreRolls() {
+        //given
+        List<Integer> scoredFrameIds = new ArrayList<>();
+        LiveGame liveGame = new LiveGame(new GameListener() {
+            @Override
+            public void onScoreUpdated(int frameId, int totalPoint) {
+                scoredFrameIds.add(frameId);
+            }
+        });
+
+        //when
+        liveGame.roll(10);
+        liveGame.roll(3);
+
+        //then
+        assertThat(liveGame.getScoredFrameCount()).isZero();
+
+        //when
+        liveGame.roll(4);
+
+        //then
+        assertThat(scoredFrameIds).containsExactly(1, 2);
+        assertThat(liveGame.getTotalPointUntil(1)).isEqualTo(17);
+        assertThat(liveGame.getTotalPointUntil(2)).isEqualTo(24);
+    }
+
+    @DisplayName("프레임이 끝날 때마다 완료된 Frame을 전달한다.")
+    @Test
+    void notifyFrameCompleted() {
+        //given
+        List<Frame> completedFrames = new ArrayList<>();
+        LiveGame liveGame = new LiveGame(new GameListener() {
+            @Override
+            public void onFrameCompleted(Frame frame) {
+                completedFrames.add(frame);
+            }
+        });
+
+        //when
+        IntStream.range(0, 11).forEach(it -> liveGame.roll(10));
+        liveGame.roll(0);
+
+        //then
+        assertThat(completedFrames).hasSize(10);
+        assertThat(completedFrames.get(9).isFinalFrame()).isTrue();
+        assertThat(completedFrames.get(9).containsOrdinal(FOURTH)).isTrue();
+        assertThat(liveGame.getTotalPointUntil(10)).isEqualTo(liveGame.toFrames().getTotalPointUntil(10));
+    }
+
+    @DisplayName("한 프레임의 두 투구 합이 10을 넘으면 예외 발생")
+    @Test
+    void throwExceptionWhenSumIsGreaterThanTen() {
+        LiveGame liveGame = new LiveGame();
+        liveGame.roll(7);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            liveGame.roll(4);
+        });
+    }
+
+    @DisplayName("끝난 게임에 투구하면 예외 발생")
+    @Test
+    void throwExceptionWhenGameIsFinished() {
+        LiveGame liveGame = new LiveGame();
+        IntStream.range(0, 20).forEach(it -> liveGame.roll(0));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            liveGame.roll(0);
+        });
+    }
+
+    private List<Integer> toPins(Frames frames) {
+        List<Integer> pins = new ArrayList<>();
+        for (Frame frame : frames.getFrames()) {
+            pins.add(frame.getFirstPoint());
+            if (!frame.isResult(FrameResult.STRIKE)) {
+                pins.add(frame.getSecondPoint());
+            }
+            if (frame.containsOrdinal(THIRD)) {
+                pins.add(frame.getThirdPoint());
+            }
+            if (frame.containsOrdinal(FOURTH)) {
+                pins.add(frame.getFourthPoint());
+            }
+        }
+        return pins;
+    }
+}
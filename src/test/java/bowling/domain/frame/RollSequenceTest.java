@@ -0,0 +1,89 @@
+package bowling.domain.frame;
+
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static bowling.domain.point.Ordinal.FOURTH;
+import static bowling.domain.point.Ordinal.THIRD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class RollSequenceTest {
+
+    @DisplayName("던진 순서대로의 투구를 옮긴 배치는 같은 게임의 Frames 배치와 같다.")
+    @Test
+    void fillGameSameAsFrames() {
+        RandomGenerator randomGenerator = new RandomGenerator(2020L);
+        byte[] expected = new byte[PointGenerator.POINTS_PER_GAME];
+        byte[] actual = new byte[PointGenerator.POINTS_PER_GAME];
+
+        for (int game = 0; game < 1_000; game++) {
+            //given
+            Frames frames = Frame.createTenFrames(randomGenerator);
+            frames.fillPoints(expected, 0);
+            int[] rolls = toRolls(frames);
+
+            //when
+            RollSequence.fillGame(rolls, rolls.length, actual, 0);
+
+            //then
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @DisplayName("퍼펙트 게임은 12번의 투구로 기록된다.")
+    @Test
+    void fillPerfectGame() {
+        //given
+        int[] rolls = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 0};
+        byte[] points = new byte[PointGenerator.POINTS_PER_GAME];
+
+        //when
+        RollSequence.fillGame(rolls, rolls.length, points, 0);
+
+        //then
+        assertThat(Frame.createTenFrames(points, 0).getTotalPointUntil(10)).isEqualTo(290);
+    }
+
+    @DisplayName("투구 수가 맞지 않거나, 범위를 벗어나거나, 한 프레임의 합이 10을 넘으면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "10 10 10 10 10 10 10 10 10 10 10",
+            "10 10 10 10 10 10 10 10 10 10 10 0 0",
+            "1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 11",
+            "7 5 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1 1",
+            "10 10 10 10 10 10 10 10 10 10 7 5"
+    })
+    void throwExceptionWhenNotAllowedRolls(String input) {
+        int[] rolls = Arrays.stream(input.split(" ")).mapToInt(Integer::parseInt).toArray();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            RollSequence.fillGame(rolls, rolls.length, new byte[PointGenerator.POINTS_PER_GAME], 0);
+        });
+    }
+
+    private int[] toRolls(Frames frames) {
+        List<Integer> rolls = new ArrayList<>();
+        for (Frame frame : frames.getFrames()) {
+            rolls.add(frame.getFirstPoint());
+            if (frame.getFirstPoint() != 10) {
+                rolls.add(frame.getSecondPoint());
+            }
+            if (frame.containsOrdinal(THIRD)) {
+                rolls.add(frame.getThirdPoint());
+            }
+            if (frame.containsOrdinal(FOURTH)) {
+                rolls.add(frame.getFourthPoint());
+            }
+        }
+        return rolls.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
@@ -26,4 +27,21 @@ public class PointTest {
             new Point(point);
         });
     }
-}
\ No newline at end of file
+
+    @DisplayName("Point.of는 점수마다 같은 인스턴스를 돌려준다.")
+    @ParameterizedTest
+    @ValueSource(ints = {0, 5, 10})
+    void ofReturnsCachedPoint(int point) {
+        assertThat(Point.of(point)).isSameAs(Point.of(point));
+        assertThat(Point.of(point).getScore()).isEqualTo(point);
+    }
+
+    @DisplayName("Point.of도 0 미만 또는 10 초과 숫자가 들어오면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 11})
+    void throwExceptionWhenOfNotInZeroToTen(int point) {
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            Point.of(point);
+        });
+    }
+}
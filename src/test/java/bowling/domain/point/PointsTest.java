@@ -0,0 +1,99 @@
+package bowling.domain.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static bowling.domain.point.Ordinal.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class PointsTest {
+    @DisplayName("두 개의 포인트로 생성하면, 투구 횟수는 2이고 합계는 두 포인트의 합이다.")
+    @ParameterizedTest
+    @CsvSource(value = {"10:0", "9:1", "6:2", "0:0", "0:10"}, delimiter = ':')
+    void createWithTwoPoints(int firstPoint, int secondPoint) {
+        //when
+        Points points = Points.of(firstPoint, secondPoint);
+
+        //then
+        assertThat(points.getPointSize()).isEqualTo(2);
+        assertThat(points.sum()).isEqualTo(firstPoint + secondPoint);
+        assertThat(points.containsOrdinal(SECOND)).isTrue();
+        assertThat(points.containsOrdinal(THIRD)).isFalse();
+    }
+
+    @DisplayName("Map으로 생성한 Points도 Ordinal별 포인트를 그대로 반환한다.")
+    @Test
+    void createWithMap() {
+        //given
+        Map<Ordinal, Point> map = new HashMap<>();
+        map.put(FIRST, Point.of(10));
+        map.put(SECOND, Point.of(0));
+        map.put(THIRD, Point.of(7));
+        map.put(FOURTH, Point.of(3));
+
+        //when
+        Points points = Points.of(map);
+
+        //then
+        assertThat(points.getPointSize()).isEqualTo(4);
+        assertThat(points.getThirdPoint()).isEqualTo(7);
+        assertThat(points.getFourthPoint()).isEqualTo(3);
+        assertThat(points.sum()).isEqualTo(20);
+    }
+
+    @DisplayName("중간 투구가 빠진 Map으로 생성하면 예외 발생")
+    @Test
+    void throwExceptionWhenMapNotContiguous() {
+        //given
+        Map<Ordinal, Point> map = new HashMap<>();
+        map.put(FIRST, Point.of(3));
+        map.put(THIRD, Point.of(4));
+
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            Points.of(map);
+        });
+    }
+
+    @DisplayName("0 미만 또는 10 초과 포인트로 생성하면 예외 발생")
+    @ParameterizedTest
+    @CsvSource(value = {"-1:0", "11:0", "0:-1", "0:11"}, delimiter = ':')
+    void throwExceptionWhenNotInZeroToTen(int firstPoint, int secondPoint) {
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            Points.of(firstPoint, secondPoint);
+        });
+    }
+
+    @DisplayName("존재하지 않는 투구의 포인트를 요청하면 예외 발생")
+    @Test
+    void throwExceptionWhenOrdinalNotContained() {
+        Points points = Points.of(5, 3);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            points.getThirdPoint();
+        });
+    }
+
+    @DisplayName("같은 모양의 Points는 같은 인스턴스를 공유한다.")
+    @Test
+    void shareCanonicalPoints() {
+        //given
+        Points points = Points.of(7, 3);
+
+        //when
+        Points samePoints = Points.of(new int[]{7, 3});
+        Points finalPoints = Points.of(new int[]{10, 0, 7, 3});
+
+        //then
+        assertThat(samePoints).isSameAs(points);
+        assertThat(points.getShapeId()).isLessThan(Points.TWO_POINT_SHAPE_COUNT);
+        assertThat(Points.of(new int[]{10, 0, 7, 3})).isSameAs(finalPoints);
+        assertThat(finalPoints.getShapeId()).isNotEqualTo(points.getShapeId());
+    }
+}
@@ -0,0 +1,119 @@
+package bowling.domain.result;
+
+import bowling.domain.PlayerName;
+import bowling.domain.frame.LiveGame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LeaderboardTest {
+
+    @DisplayName("플레이어마다 최고 점수만 남기고, 점수가 높은 순, 같으면 이름순으로 상위 K명을 구한다.")
+    @Test
+    void getTop() {
+        //given
+        Leaderboard leaderboard = new Leaderboard();
+
+        //when
+        leaderboard.record(PlayerName.of("PJS"), 120);
+        leaderboard.record(PlayerName.of("KSY"), 150);
+        leaderboard.record(PlayerName.of("LEE"), 120);
+        leaderboard.record(PlayerName.of("PJS"), 90);
+        leaderboard.record(PlayerName.of("KIM"), 200);
+        leaderboard.record(PlayerName.of("KSY"), 210);
+
+        //then
+        assertThat(leaderboard.getPlayerCount()).isEqualTo(4);
+        assertThat(leaderboard.getTop(3)).containsExactly(
+                LeaderboardEntry.of(1, "KSY", 210),
+                LeaderboardEntry.of(2, "KIM", 200),
+                LeaderboardEntry.of(3, "LEE", 120));
+    }
+
+    @DisplayName("같은 점수는 같은 순위이고, 점수 구간의 인원과 목록을 구한다.")
+    @Test
+    void getRankAndRange() {
+        //given
+        Leaderboard leaderboard = new Leaderboard();
+        leaderboard.record(PlayerName.of("PJS"), 120);
+        leaderboard.record(PlayerName.of("KSY"), 150);
+        leaderboard.record(PlayerName.of("LEE"), 120);
+        leaderboard.record(PlayerName.of("KIM"), 0);
+
+        //when
+        int rank = leaderboard.getRank(PlayerName.of("LEE"));
+        int lastRank = leaderboard.getRank(PlayerName.of("KIM"));
+
+        //then
+        assertThat(rank).isEqualTo(2);
+        assertThat(lastRank).isEqualTo(4);
+        assertThat(leaderboard.countInRange(0, 120)).isEqualTo(3);
+        assertThat(leaderboard.countInRange(121, 300)).isEqualTo(1);
+        assertThat(leaderboard.getEntriesInRange(100, 130)).containsExactly(
+                LeaderboardEntry.of(2, "LEE", 120),
+                LeaderboardEntry.of(2, "PJS", 120));
+    }
+
+    @DisplayName("LiveGame이 10프레임 점수를 정하면 순위표에 기록된다.")
+    @Test
+    void recordFromLiveGame() {
+        //given
+        Leaderboard leaderboard = new Leaderboard();
+        LiveGame liveGame = new LiveGame(leaderboard.listenerFor(PlayerName.of("PJS")));
+
+        //when
+        for (int roll = 0; roll < 20; roll++) {
+            liveGame.roll(4);
+        }
+
+        //then
+        assertThat(leaderboard.getBestScore(PlayerName.of("PJS"))).isEqualTo(80);
+    }
+
+    @DisplayName("여러 스레드가 동시에 기록해도 인원과 순위가 맞다.")
+    @Test
+    void recordConcurrently() throws Exception {
+        //given
+        Leaderboard leaderboard = new Leaderboard();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 26 * 26; i++) {
+                    String name = "" + (char) ('A' + i / 26) + (char) ('A' + i % 26) + 'Z';
+                    leaderboard.record(PlayerName.of(name), i % 301);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(leaderboard.getPlayerCount()).isEqualTo(26 * 26);
+        assertThat(leaderboard.countInRange(0, 300)).isEqualTo(26 * 26);
+        assertThat(leaderboard.getTop(1).get(0).getScore()).isEqualTo(300);
+    }
+
+    @DisplayName("범위를 벗어난 점수나 없는 플레이어는 예외 발생")
+    @Test
+    void throwExceptionWhenNotAllowedScoreOrPlayer() {
+        Leaderboard leaderboard = new Leaderboard();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> leaderboard.record(PlayerName.of("PJS"), 301));
+        assertThatIllegalArgumentException().isThrownBy(() -> leaderboard.getRank(PlayerName.of("PJS")));
+    }
+}
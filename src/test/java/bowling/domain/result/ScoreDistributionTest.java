@@ -0,0 +1,50 @@
+package bowling.domain.result;
+
+import bowling.domain.simulation.GameSimulator;
+import bowling.domain.simulation.SimulationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class ScoreDistributionTest {
+    private final ScoreDistribution distribution = ScoreDistribution.ofRandomGame();
+
+    @DisplayName("모든 점수의 확률을 더하면 1이다.")
+    @Test
+    void sumOfProbabilitiesIsOne() {
+        assertThat(distribution.getCumulativeProbability(300)).isCloseTo(1.0, within(1e-9));
+    }
+
+    @DisplayName("퍼펙트 게임(290점)의 확률은 11번의 스트라이크 확률인 (1/11)^11 이고, 그보다 높은 점수는 나올 수 없다.")
+    @Test
+    void probabilityOfPerfectGame() {
+        assertThat(distribution.getProbability(290)).isCloseTo(Math.pow(1.0 / 11, 11), withinPercentage(1e-6));
+        assertThat(distribution.getProbability(291)).isZero();
+        assertThat(distribution.getScoreAtPercentile(100)).isEqualTo(290);
+        assertThat(distribution.getScoreAtPercentile(0)).isEqualTo(0);
+    }
+
+    @DisplayName("기댓값과 중앙값은 시뮬레이션 결과와 거의 같다.")
+    @Test
+    void sameAsSimulation() {
+        //given
+        SimulationResult simulationResult = new GameSimulator().simulate(200_000, 2020L);
+
+        //when, then
+        assertThat(distribution.getExpectedScore()).isCloseTo(simulationResult.getAverageScore(), within(0.5));
+        assertThat(distribution.getScoreAtPercentile(50))
+                .isCloseTo(simulationResult.getScoreAtPercentile(50), within(1));
+    }
+
+    @DisplayName("백분위가 0 미만 또는 100 초과이면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(doubles = {-1, 100.1})
+    void throwExceptionWhenPercentileIsNotInRange(double percentile) {
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            distribution.getScoreAtPercentile(percentile);
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package bowling.domain.simulation;
+
+import bowling.domain.frame.FrameResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class GameSimulatorTest {
+    private static final int GAME_COUNT = 50_000;
+
+    @DisplayName("게임 수를 주면, 해당 게임 수만큼 시뮬레이션한 결과를 반환한다.")
+    @Test
+    void simulate() {
+        //when
+        SimulationResult result = new GameSimulator().simulate(GAME_COUNT);
+
+        //then
+        long histogramSum = IntStream.rangeClosed(0, 300)
+                .mapToLong(result::getScoreCount)
+                .sum();
+        assertThat(result.getGameCount()).isEqualTo(GAME_COUNT);
+        assertThat(histogramSum).isEqualTo(GAME_COUNT);
+    }
+
+    @DisplayName("프레임 결과별 빈도의 합은 1이다.")
+    @Test
+    void sumOfFrequenciesIsOne() {
+        //when
+        SimulationResult result = new GameSimulator().simulate(GAME_COUNT);
+
+        //then
+        double frequencySum = Arrays.stream(FrameResult.values())
+                .mapToDouble(result::getFrequency)
+                .sum();
+        assertThat(frequencySum).isCloseTo(1.0, within(1e-9));
+    }
+
+    @DisplayName("백분위 점수는 최소 점수 이상, 최대 점수 이하이며 백분위가 커질수록 작아지지 않는다.")
+    @Test
+    void percentileIsMonotonic() {
+        //when
+        SimulationResult result = new GameSimulator().simulate(GAME_COUNT);
+
+        //then
+        int median = result.getScoreAtPercentile(50);
+        int ninetieth = result.getScoreAtPercentile(90);
+        assertThat(result.getMinScore()).isLessThanOrEqualTo(median);
+        assertThat(median).isLessThanOrEqualTo(ninetieth);
+        assertThat(ninetieth).isLessThanOrEqualTo(result.getMaxScore());
+        assertThat(result.getAverageScore())
+                .isBetween((double) result.getMinScore(), (double) result.getMaxScore());
+    }
+
+    @DisplayName("같은 seed로 시뮬레이션하면 같은 결과를 반환한다.")
+    @Test
+    void simulateWithSameSeed() {
+        //when
+        SimulationResult result = new GameSimulator().simulate(GAME_COUNT, 2020L);
+        SimulationResult otherResult = new GameSimulator().simulate(GAME_COUNT, 2020L);
+
+        //then
+        IntStream.rangeClosed(0, 300)
+                .forEach(score -> assertThat(result.getScoreCount(score)).isEqualTo(otherResult.getScoreCount(score)));
+    }
+
+    @DisplayName("게임 수가 1 미만이면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void throwExceptionWhenGameCountIsNotPositive(long gameCount) {
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            new GameSimulator().simulate(gameCount);
+        });
+    }
+
+    @DisplayName("백분위가 0 미만 또는 100 초과이면 예외 발생")
+    @ParameterizedTest
+    @ValueSource(doubles = {-1, 100.1})
+    void throwExceptionWhenPercentileIsNotInRange(double percentile) {
+        SimulationResult result = new GameSimulator().simulate(1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> {
+            result.getScoreAtPercentile(percentile);
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package bowling.metrics;
+
+import bowling.domain.PlayerName;
+import bowling.domain.PointGenerator;
+import bowling.domain.RandomGenerator;
+import bowling.domain.frame.Frame;
+import bowling.domain.frame.RollSequence;
+import bowling.domain.result.GameResults;
+import bowling.view.ResultView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BowlingMetricsTest {
+    /* 2020L로 만든 두 게임은 각각 스트라이크 한 번(1투구) + 오픈 프레임 9개(2투구씩)라 19투구씩이다. */
+    private static final int SEEDED_GAMES_ROLL_COUNT = 38;
+
+    @DisplayName("게임을 만들고 채점해 출력하면 지표가 늘어나고, JMX로 읽을 수 있다.")
+    @Test
+    void exposeMetricsOverJmx() throws Exception {
+        //given
+        BowlingMetrics.register();
+        BowlingMetrics.register();
+        BowlingMetrics metrics = BowlingMetrics.get();
+        long gamesGenerated = metrics.getGamesGenerated();
+        long rollsScored = metrics.getRollsScored();
+        long scoringCount = metrics.getScoringCount();
+        long renderCount = metrics.getRenderCount();
+        long bytesWritten = metrics.getBytesWritten();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        GameResults gameResults = GameResults.createWithPlayerNames(
+                Arrays.asList(PlayerName.of("PJS"), PlayerName.of("KSY")), new RandomGenerator(2020L));
+        new ResultView(output).render(gameResults);
+
+        //then
+        assertThat(metrics.getGamesGenerated() - gamesGenerated).isGreaterThanOrEqualTo(2);
+        assertThat(metrics.getRollsScored() - rollsScored).isEqualTo(SEEDED_GAMES_ROLL_COUNT);
+        assertThat(metrics.getScoringCount() - scoringCount).isGreaterThanOrEqualTo(2);
+        assertThat(metrics.getRenderCount() - renderCount).isGreaterThan(0);
+        assertThat(metrics.getBytesWritten() - bytesWritten).isGreaterThanOrEqualTo(output.size());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Object attribute = server.getAttribute(new ObjectName("bowling:type=BowlingMetrics"), "GamesGenerated");
+        assertThat((Long) attribute).isGreaterThanOrEqualTo(gamesGenerated + 2);
+    }
+
+    @DisplayName("채점한 투구 수는 저장된 칸 수가 아니라 실제로 던진 투구 수다.")
+    @Test
+    void countRealRolls() {
+        //given
+        int[] rolls = {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 0};
+        byte[] points = new byte[PointGenerator.POINTS_PER_GAME];
+        RollSequence.fillGame(rolls, rolls.length, points, 0);
+        long rollsScored = BowlingMetrics.get().getRollsScored();
+
+        //when
+        int totalPoint = Frame.createTenFrames(points, 0).getTotalPointUntil(10);
+
+        //then
+        assertThat(totalPoint).isEqualTo(290);
+        assertThat(BowlingMetrics.get().getRollsScored() - rollsScored).isEqualTo(rolls.length);
+    }
+}
@@ -0,0 +1,55 @@
+package bowling.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LatencyHistogramTest {
+
+    @DisplayName("백분위는 해당 값이 속한 2의 거듭제곱 구간의 상한으로 구한다.")
+    @Test
+    void getPercentile() {
+        //given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        //when
+        for (int i = 0; i < 99; i++) {
+            latencyHistogram.record(100);
+        }
+        latencyHistogram.record(5_000);
+
+        //then
+        assertThat(latencyHistogram.getCount()).isEqualTo(100);
+        assertThat(latencyHistogram.getMean()).isEqualTo(149.0);
+        assertThat(latencyHistogram.getMax()).isEqualTo(5_000);
+        assertThat(latencyHistogram.getPercentile(50)).isEqualTo(127);
+        assertThat(latencyHistogram.getPercentile(99)).isEqualTo(127);
+        assertThat(latencyHistogram.getPercentile(100)).isEqualTo(5_000);
+    }
+
+    @DisplayName("초기화하면 모든 값이 0이 된다.")
+    @Test
+    void reset() {
+        //given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        latencyHistogram.record(100);
+
+        //when
+        latencyHistogram.reset();
+
+        //then
+        assertThat(latencyHistogram.getCount()).isZero();
+        assertThat(latencyHistogram.getMax()).isZero();
+        assertThat(latencyHistogram.getPercentile(50)).isZero();
+    }
+
+    @DisplayName("0 미만 또는 100 초과 백분위를 요청하면 예외 발생")
+    @Test
+    void throwExceptionWhenNotAllowedPercentile() {
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> latencyHistogram.getPercentile(101));
+    }
+}
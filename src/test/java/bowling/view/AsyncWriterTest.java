@@ -0,0 +1,156 @@
+package bowling.view;
+
+import bowling.domain.PlayerName;
+import bowling.domain.RandomGenerator;
+import bowling.domain.result.GameResults;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncWriterTest {
+    private static final List<PlayerName> PLAYER_NAMES = Arrays.asList(PlayerName.of("AAA"), PlayerName.of("BBB"));
+
+    @DisplayName("AsyncWriter로 그린 보드는 바로 쓴 보드와 같다.")
+    @Test
+    void renderSameAsSyncWriter() throws IOException {
+        //given
+        StringWriter expected = new StringWriter();
+        StringWriter actual = new StringWriter();
+        AsyncWriter asyncWriter = new AsyncWriter(actual, 2);
+
+        //when
+        render(new ResultView(expected, RenderMode.ANSI), new RandomGenerator(7L));
+        render(new ResultView(asyncWriter, RenderMode.ANSI), new RandomGenerator(7L));
+        asyncWriter.close();
+
+        //then
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @DisplayName("flush를 호출하면 그때까지 쓴 내용이 모두 내보내지고, 여러 번 쓴 내용도 순서대로 이어진다.")
+    @Test
+    void flush() throws IOException {
+        //given
+        RecordingWriter out = new RecordingWriter();
+        AsyncWriter asyncWriter = new AsyncWriter(out);
+        char[] large = new char[20_000];
+        Arrays.fill(large, 'x');
+
+        //when
+        asyncWriter.write("ab");
+        asyncWriter.write(large);
+        asyncWriter.write("cd");
+        asyncWriter.flush();
+        asyncWriter.close();
+
+        //then
+        assertThat(out.toString()).startsWith("ab").endsWith("cd").hasSize(20_004);
+        assertThat(out.flushCount).isPositive();
+        assertThat(out.closed).isTrue();
+    }
+
+    @DisplayName("닫힌 뒤 쓰면 예외 발생")
+    @Test
+    void throwExceptionWhenWriteAfterClose() throws IOException {
+        //given
+        AsyncWriter asyncWriter = new AsyncWriter(new StringWriter());
+
+        //when
+        asyncWriter.close();
+
+        //then
+        assertThatThrownBy(() -> asyncWriter.write("a")).isInstanceOf(IOException.class);
+    }
+
+    @DisplayName("전용 스레드에서 쓰기에 실패하면 close에서 예외 발생, 감싼 Writer는 닫힌다.")
+    @Test
+    void throwExceptionWhenUnderlyingWriterFails() throws IOException {
+        //given
+        FailingWriter failing = new FailingWriter();
+        AsyncWriter asyncWriter = new AsyncWriter(failing, 1);
+
+        //when
+        asyncWriter.write("a");
+        asyncWriter.flush();
+
+        //then
+        assertThatThrownBy(asyncWriter::close).isInstanceOf(IOException.class).hasMessage("disk full");
+        assertThat(failing.closed).isTrue();
+    }
+
+    @DisplayName("실패가 이미 알려진 뒤에도 close하면 감싼 Writer가 닫힌다.")
+    @Test
+    void closeUnderlyingWriterWhenAlreadyFailed() throws Exception {
+        //given
+        FailingWriter failing = new FailingWriter();
+        AsyncWriter asyncWriter = new AsyncWriter(failing, 1);
+        asyncWriter.write("a");
+        asyncWriter.flush();
+        waitUntilFailed(asyncWriter);
+
+        //when
+        assertThatThrownBy(asyncWriter::flush).isInstanceOf(IOException.class);
+        assertThatThrownBy(asyncWriter::close).isInstanceOf(IOException.class);
+
+        //then
+        assertThat(failing.closed).isTrue();
+    }
+
+    private static void waitUntilFailed(AsyncWriter asyncWriter) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            try {
+                asyncWriter.write("");
+            } catch (IOException e) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void render(ResultView resultView, RandomGenerator randomGenerator) {
+        for (int game = 0; game < 50; game++) {
+            resultView.render(GameResults.createWithPlayerNames(PLAYER_NAMES, randomGenerator));
+        }
+    }
+
+    private static class FailingWriter extends Writer {
+        private volatile boolean closed;
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            throw new IOException("disk full");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static class RecordingWriter extends StringWriter {
+        private volatile int flushCount;
+        private volatile boolean closed;
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package bowling.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static bowling.view.PrintFormat.SCORE_BOX;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoardDiffTest {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    @DisplayName("첫 board는 빈 줄을 제외하고 그대로 출력한다.")
+    @Test
+    void rewriteFirstBoard() {
+        //given
+        BoardDiff boardDiff = new BoardDiff();
+        StringBuilder board = board("AAA's turn : 5", "", "|    AAA   |     5    |", "");
+
+        //when
+        boardDiff.rewrite(board, RenderMode.LINE);
+
+        //then
+        assertThat(board.toString()).isEqualTo(lines("AAA's turn : 5", "|    AAA   |     5    |"));
+    }
+
+    @DisplayName("LINE 모드에서는 차례 줄과 바뀐 줄만 출력하고, 점수 줄이 바뀌면 이름 줄도 함께 출력한다.")
+    @Test
+    void rewriteChangedLines() {
+        //given
+        BoardDiff boardDiff = new BoardDiff();
+        boardDiff.rewrite(board("AAA's turn : 5", "|    AAA   |", SCORE_BOX, "|    BBB   |", SCORE_BOX), RenderMode.LINE);
+        StringBuilder board = board("AAA's turn : 3", "|    AAA   |", SCORE_BOX + "     8    |", "|    BBB   |", SCORE_BOX);
+
+        //when
+        boardDiff.rewrite(board, RenderMode.LINE);
+
+        //then
+        assertThat(board.toString()).isEqualTo(lines("AAA's turn : 3", "|    AAA   |", SCORE_BOX + "     8    |"));
+    }
+
+    @DisplayName("ANSI 모드에서는 커서를 board 처음으로 옮긴 뒤 바뀐 칸부터만 다시 출력한다.")
+    @Test
+    void rewriteChangedCells() {
+        //given
+        BoardDiff boardDiff = new BoardDiff();
+        boardDiff.rewrite(board("AAA's turn : 5", "|    AAA   |     5    |"), RenderMode.ANSI);
+        StringBuilder board = board("AAA's turn : 5", "|    AAA   |    5|4   |");
+
+        //when
+        boardDiff.rewrite(board, RenderMode.ANSI);
+
+        //then
+        assertThat(board.toString())
+                .isEqualTo("\u001B[2A" + LINE_SEPARATOR + "\r\u001B[16C5|4   |\u001B[K" + LINE_SEPARATOR);
+    }
+
+    private StringBuilder board(String... lines) {
+        return new StringBuilder(lines(lines));
+    }
+
+    private String lines(String... lines) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : lines) {
+            builder.append(line).append(LINE_SEPARATOR);
+        }
+        return builder.toString();
+    }
+}
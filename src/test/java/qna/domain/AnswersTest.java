@@ -73,4 +73,28 @@ public class AnswersTest {
         //then
         assertThat(deleteHistories).hasSize(2);
     }
+
+    @DisplayName("add하면 같은 목록 뒤에 답변이 덧붙는다.")
+    @Test
+    void appendWhenAdd() {
+        //given
+        Answers answers = new Answers(Arrays.asList(answer3));
+        List<Answer> view = answers.getAnswers();
+
+        //when
+        answers.add(answer4);
+
+        //then
+        assertThat(view).containsExactly(answer3, answer4);
+    }
+
+    @DisplayName("밖으로 내보낸 답변 목록은 수정할 수 없다.")
+    @Test
+    void throwExceptionWhenModifyAnswers() {
+        Answers answers = new Answers(Arrays.asList(answer3));
+
+        assertThatThrownBy(() -> {
+            answers.getAnswers().add(answer4);
+        }).isInstanceOf(UnsupportedOperationException.class);
+    }
 }
\ No newline at end of file
@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Test;
 import qna.CannotDeleteException;
 import qna.domain.deletehistory.DeleteHistory;
 import qna.domain.qna.answer.Answer;
+import qna.domain.qna.answer.AnswerWriter;
 import qna.domain.qna.question.Question;
 import qna.domain.user.User;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -104,4 +106,32 @@ public class QuestionTest {
         //then
         assertThat(deleteHistories).hasSize(1);
     }
+
+    @DisplayName("답변 작성자 목록으로 삭제하면, 질문과 답변의 DeleteHistories가 반환된다.")
+    @Test
+    void returnDeleteHistoriesWhenDeleteWithAnswerWriters() throws CannotDeleteException {
+        //given
+        User loginUser = UserTest.SANJIGI;
+        List<AnswerWriter> answerWriters = Arrays.asList(new AnswerWriter(3L, UserTest.SANJIGI),
+                new AnswerWriter(4L, UserTest.SANJIGI));
+
+        //when
+        List<DeleteHistory> deleteHistories = question2.delete(loginUser, answerWriters);
+
+        //then
+        assertThat(question2.isDeleted()).isTrue();
+        assertThat(deleteHistories).hasSize(3);
+    }
+
+    @DisplayName("답변 작성자 목록에 로그인 유저가 쓰지 않은 답변이 있으면 예외 발생")
+    @Test
+    void validateCanDeleteWithAnswerWritersWhenNotWriter() {
+        User loginUser = UserTest.SANJIGI;
+        List<AnswerWriter> answerWriters = Arrays.asList(new AnswerWriter(3L, UserTest.JAVAJIGI));
+
+        assertThatThrownBy(() -> {
+            question2.delete(loginUser, answerWriters);
+        }).isInstanceOf(CannotDeleteException.class);
+        assertThat(question2.isDeleted()).isFalse();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package qna.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import qna.QnaApplication;
+import qna.domain.deletehistory.DeleteHistory;
+import qna.domain.deletehistory.DeleteHistoryRepository;
+import qna.domain.qna.ContentType;
+import qna.domain.user.User;
+import qna.domain.user.UserRepository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = QnaApplication.class,
+        properties = "spring.datasource.url=jdbc:h2:mem:delete-history;DB_CLOSE_ON_EXIT=FALSE")
+public class DeleteHistoryServiceTest {
+    @Autowired
+    private DeleteHistoryService deleteHistoryService;
+
+    @Autowired
+    private DeleteHistoryRepository deleteHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        deleteHistoryRepository.deleteAll();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        user = userRepository.findByUserId("deleter")
+                .orElseGet(() -> userRepository.save(new User("deleter", "password", "name", "deleter@slipp.net")));
+    }
+
+    @DisplayName("삭제한 트랜잭션이 롤백되면 DeleteHistory도 남지 않는다.")
+    @Test
+    void discardDeleteHistoriesWhenCallerRollsBack() {
+        //when
+        transactionTemplate.execute(status -> {
+            deleteHistoryService.saveAll(createDeleteHistories());
+            status.setRollbackOnly();
+            return null;
+        });
+
+        //then
+        assertThat(deleteHistoryRepository.count()).isZero();
+    }
+
+    @DisplayName("삭제한 트랜잭션이 커밋되면 DeleteHistory가 함께 저장된다.")
+    @Test
+    void saveDeleteHistoriesWhenCallerCommits() {
+        //when
+        transactionTemplate.execute(status -> {
+            deleteHistoryService.saveAll(createDeleteHistories());
+            return null;
+        });
+
+        //then
+        assertThat(deleteHistoryRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("DeleteHistory의 id는 50씩 증가하는 delete_history_seq 시퀀스에서 받아 온다.")
+    @Test
+    void generateIdFromPooledSequence() {
+        //when
+        Number increment = (Number) entityManager
+                .createNativeQuery("select increment from information_schema.sequences " +
+                        "where sequence_name = 'DELETE_HISTORY_SEQ'")
+                .getSingleResult();
+
+        //then
+        assertThat(increment.intValue()).isEqualTo(50);
+    }
+
+    private List<DeleteHistory> createDeleteHistories() {
+        return Arrays.asList(
+                DeleteHistory.of(ContentType.ANSWER, 11L, user, LocalDateTime.now()),
+                DeleteHistory.of(ContentType.QUESTION, 1L, user, LocalDateTime.now()));
+    }
+}
@@ -5,22 +5,33 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import qna.CannotDeleteException;
 import qna.domain.*;
 import qna.domain.deletehistory.DeleteHistory;
 import qna.domain.qna.answer.Answer;
+import qna.domain.qna.answer.AnswerRepository;
+import qna.domain.qna.answer.AnswerWriter;
 import qna.domain.qna.ContentType;
 import qna.domain.qna.question.Question;
 import qna.domain.qna.question.QuestionRepository;
+import qna.domain.qna.question.QuestionSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,9 +40,15 @@ public class QnaServiceTest {
     @Mock
     private QuestionRepository questionRepository;
 
+    @Mock
+    private AnswerRepository answerRepository;
+
     @Mock
     private DeleteHistoryService deleteHistoryService;
 
+    @Spy
+    private QuestionCache questionCache = new QuestionCache();
+
     @InjectMocks
     private QnAService qnAService;
 
@@ -47,7 +64,7 @@ public class QnaServiceTest {
 
     @Test
     public void delete_성공() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findWithAnswersByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
 
         assertThat(question.isDeleted()).isFalse();
         qnAService.deleteQuestion(UserTest.JAVAJIGI, question.getId());
@@ -58,7 +75,7 @@ public class QnaServiceTest {
 
     @Test
     public void delete_다른_사람이_쓴_글() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findWithAnswersByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
 
         assertThatThrownBy(() -> {
             qnAService.deleteQuestion(UserTest.SANJIGI, question.getId());
@@ -67,7 +84,7 @@ public class QnaServiceTest {
 
     @Test
     public void delete_성공_질문자_답변자_같음() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findWithAnswersByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
 
         qnAService.deleteQuestion(UserTest.JAVAJIGI, question.getId());
 
@@ -78,13 +95,76 @@ public class QnaServiceTest {
 
     @Test
     public void delete_답변_중_다른_사람이_쓴_글() throws Exception {
-        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(questionRepository.findWithAnswersByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
 
         assertThatThrownBy(() -> {
             qnAService.deleteQuestion(UserTest.SANJIGI, question.getId());
         }).isInstanceOf(CannotDeleteException.class);
     }
 
+    @Test
+    public void delete_일괄_성공() throws Exception {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.findAnswerWritersByQuestionId(question.getId()))
+                .thenReturn(Collections.singletonList(new AnswerWriter(answer.getId(), answer.getWriter())));
+        when(answerRepository.softDeleteByQuestionId(eq(question.getId()), eq(answer.getId()), any())).thenReturn(1);
+
+        qnAService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId());
+
+        assertThat(question.isDeleted()).isTrue();
+        verifyDeleteHistories();
+    }
+
+    @Test
+    public void delete_일괄_삭제_중_답변_변경() throws Exception {
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.findAnswerWritersByQuestionId(question.getId()))
+                .thenReturn(Collections.singletonList(new AnswerWriter(answer.getId(), answer.getWriter())));
+        when(answerRepository.softDeleteByQuestionId(eq(question.getId()), eq(answer.getId()), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> {
+            qnAService.deleteQuestionInBulk(UserTest.JAVAJIGI, question.getId());
+        }).isInstanceOf(IllegalStateException.class);
+        verify(deleteHistoryService, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void delete_일괄_답변_중_다른_사람이_쓴_글() throws Exception {
+        question.writeBy(UserTest.SANJIGI);
+        when(questionRepository.findByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        when(answerRepository.findAnswerWritersByQuestionId(question.getId()))
+                .thenReturn(Collections.singletonList(new AnswerWriter(answer.getId(), answer.getWriter())));
+
+        assertThatThrownBy(() -> {
+            qnAService.deleteQuestionInBulk(UserTest.SANJIGI, question.getId());
+        }).isInstanceOf(CannotDeleteException.class);
+        verify(answerRepository, never()).softDeleteByQuestionId(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    public void findQuestionSnapshotById_캐시() throws Exception {
+        when(questionRepository.findWithAnswersByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+
+        QuestionSnapshot first = qnAService.findQuestionSnapshotById(question.getId());
+        QuestionSnapshot second = qnAService.findQuestionSnapshotById(question.getId());
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getAnswers()).hasSize(1);
+        assertThat(questionCache.getMissCount()).isEqualTo(1);
+        assertThat(questionCache.getHitCount()).isEqualTo(1);
+        verify(questionRepository, times(1)).findWithAnswersByIdAndDeletedFalse(question.getId());
+    }
+
+    @Test
+    public void delete_성공_캐시_제거() throws Exception {
+        when(questionRepository.findWithAnswersByIdAndDeletedFalse(question.getId())).thenReturn(Optional.of(question));
+        qnAService.findQuestionSnapshotById(question.getId());
+
+        qnAService.deleteQuestion(UserTest.JAVAJIGI, question.getId());
+
+        assertThat(questionCache.size()).isZero();
+    }
+
     private void verifyDeleteHistories() {
         List<DeleteHistory> deleteHistories = Arrays.asList(
                 new DeleteHistory(ContentType.ANSWER, answer.getId(), answer.getWriter(), LocalDateTime.now()),
@@ -0,0 +1,141 @@
+package qna.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import qna.domain.UserTest;
+import qna.domain.qna.question.Question;
+import qna.domain.qna.question.QuestionSnapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QuestionCacheTest {
+    private static final int MAX_SIZE = 2;
+    private static final long TTL_MILLIS = 1000L;
+    private static final long TTL_NANOS = 1_000_000_000L;
+
+    private AtomicLong now;
+    private AtomicInteger loadCount;
+    private Function<Long, QuestionSnapshot> loader;
+    private QuestionCache questionCache;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        loadCount = new AtomicInteger();
+        loader = id -> {
+            loadCount.incrementAndGet();
+            return QuestionSnapshot.of(new Question(id, "title" + id, "contents" + id).writeBy(UserTest.JAVAJIGI));
+        };
+        questionCache = new QuestionCache(MAX_SIZE, TTL_MILLIS, now::get);
+    }
+
+    @DisplayName("같은 질문을 다시 읽으면 저장소를 거치지 않고, 적중과 실패 횟수를 센다.")
+    @Test
+    void hitWhenGetAgain() {
+        //when
+        QuestionSnapshot first = questionCache.get(1L, loader);
+        QuestionSnapshot second = questionCache.get(1L, loader);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(questionCache.getHitCount()).isEqualTo(1);
+        assertThat(questionCache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("TTL이 지나면 다시 읽는다.")
+    @Test
+    void loadAgainWhenExpired() {
+        //given
+        questionCache.get(1L, loader);
+
+        //when
+        now.addAndGet(TTL_NANOS);
+        questionCache.get(1L, loader);
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 읽히지 않은 질문부터 밀려난다.")
+    @Test
+    void evictLeastRecentlyUsedWhenFull() {
+        //given
+        questionCache.get(1L, loader);
+        now.incrementAndGet();
+        questionCache.get(2L, loader);
+        now.incrementAndGet();
+        questionCache.get(1L, loader);
+        now.incrementAndGet();
+
+        //when
+        questionCache.get(3L, loader);
+        now.incrementAndGet();
+        questionCache.get(1L, loader);
+        questionCache.get(2L, loader);
+
+        //then
+        assertThat(questionCache.size()).isEqualTo(MAX_SIZE);
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @DisplayName("evict하면 다시 읽는다.")
+    @Test
+    void loadAgainWhenEvicted() {
+        //given
+        questionCache.get(1L, loader);
+
+        //when
+        questionCache.evictAfterCommit(1L);
+        questionCache.get(1L, loader);
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("읽는 도중 evict되면 읽어 온 질문을 캐시에 넣지 않는다.")
+    @Test
+    void notCacheWhenEvictedWhileLoading() {
+        //when
+        questionCache.get(1L, id -> {
+            questionCache.evict(id);
+            return loader.apply(id);
+        });
+
+        //then
+        assertThat(questionCache.size()).isZero();
+    }
+
+    @DisplayName("다른 질문이 지워져도 같은 칸이 아니면 캐시에 넣는다.")
+    @Test
+    void cacheWhenOtherQuestionEvictedWhileLoading() {
+        //when
+        questionCache.get(1L, id -> {
+            questionCache.evict(2L);
+            return loader.apply(id);
+        });
+
+        //then
+        assertThat(questionCache.size()).isEqualTo(1);
+    }
+
+    @DisplayName("스냅숏은 원래 질문을 고쳐도 바뀌지 않는다.")
+    @Test
+    void snapshotNotChangedWhenQuestionChanged() {
+        //given
+        Question question = new Question(1L, "title", "contents").writeBy(UserTest.JAVAJIGI);
+        QuestionSnapshot snapshot = questionCache.get(1L, id -> QuestionSnapshot.of(question));
+
+        //when
+        question.writeBy(UserTest.SANJIGI);
+
+        //then
+        assertThat(questionCache.get(1L, loader).getWriterUserId()).isEqualTo(UserTest.JAVAJIGI.getUserId());
+        assertThat(snapshot.getWriterUserId()).isEqualTo(UserTest.JAVAJIGI.getUserId());
+    }
+}